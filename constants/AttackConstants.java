@@ -1,28 +1,32 @@
-package constants;
-import entities.Vector;
-import java.awt.Dimension;
-/**
- * [AttackConstants.java]
- * Interface containing constants related to various attack mechanics in the game.
- * Defines values such as durations, damages, dimensions, and speeds for different attack types.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public interface AttackConstants {
-
-    long MELEE_DURATION = 1000L;
-    long MELEE_DAMAGE = 20;
-
-    int BULLET_DROP = 1;
-    double BULLET_BLOOM = 0.1;
-    int BULLET_DAMAGE = 30;
-    Vector MAX_BULLET_SPEED = new Vector(35, 35);
-    Dimension BULLET_DIMENSION = new Dimension(10, 20);
-
-    int MAX_EXPLOSION_RADIUS = 50;
-    int INITIAL_EXPLOSION_RADIUS = 5;
-    int SHRAPNEL_DAMAGE = 20;
-    int EXPLOSION_DAMAGE = 80;
-    int ROCKET_DAMAGE = 30;
-    Dimension ROCKET_DIMENSION = new Dimension(20, 40);
-}
+package constants;
+import entities.Vector;
+import java.awt.Dimension;
+/**
+ * [AttackConstants.java]
+ * Interface containing constants related to various attack mechanics in the game.
+ * Defines values such as durations, damages, dimensions, and speeds for different attack types.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public interface AttackConstants {
+
+    long MELEE_DURATION = 1000L; // how long clients show a swing, it only hits on the tick it is made
+    long MELEE_DAMAGE = 20;
+
+    int BULLET_DROP = 1;
+    double BULLET_BLOOM = 0.1;
+    int BULLET_DAMAGE = 30;
+    Vector MAX_BULLET_SPEED = new Vector(35, 35);
+    Dimension BULLET_DIMENSION = new Dimension(10, 20);
+
+    int MAX_EXPLOSION_RADIUS = 50;
+    int EXPLOSION_DAMAGE = 80;
+    double EXPLOSION_FALLOFF = 0.75; // share of the damage lost at the edge of the radius
+    long EXPLOSION_DURATION = 400L; // how long clients show an explosion
+    int ROCKET_DAMAGE = 30;
+    Dimension ROCKET_DIMENSION = new Dimension(20, 40);
+
+    int MAX_FLIGHT_TICKS = 600; // how far ahead a projectile's path is worked out, it is dropped if still flying by then
+
+    int ATTACK_POOL_SIZE = 64; // released attacks of each type kept for reuse
+}
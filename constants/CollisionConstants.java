@@ -0,0 +1,27 @@
+package constants;
+
+/**
+ * [CollisionConstants.java]
+ * Interface containing the collision categories every game object belongs to and the masks of the categories each
+ * one collides with. A pair can only collide if the category of one is in the mask of the other, and the masks are
+ * symmetric, so checking one side is enough. Objects that share a non-zero collision group, such as an avatar and
+ * its own attacks, never collide with each other.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public interface CollisionConstants {
+    int CATEGORY_AVATAR = 1;
+    int CATEGORY_ENEMY = 1 << 1;
+    int CATEGORY_ATTACK = 1 << 2;
+    int CATEGORY_STATIC = 1 << 3; // walls
+    int CATEGORY_TRIGGER = 1 << 4; // hazards and power-ups, which are touched rather than solid
+    int CATEGORY_COUNT = 5;
+
+    int AVATAR_MASK = CATEGORY_ENEMY | CATEGORY_ATTACK | CATEGORY_STATIC | CATEGORY_TRIGGER;
+    int ENEMY_MASK = CATEGORY_AVATAR | CATEGORY_ATTACK | CATEGORY_STATIC | CATEGORY_TRIGGER;
+    int ATTACK_MASK = CATEGORY_AVATAR | CATEGORY_ENEMY | CATEGORY_STATIC; // attacks fly through triggers
+    int STATIC_MASK = CATEGORY_AVATAR | CATEGORY_ENEMY | CATEGORY_ATTACK;
+    int TRIGGER_MASK = CATEGORY_AVATAR | CATEGORY_ENEMY;
+
+    int NO_COLLISION_GROUP = 0;
+}
@@ -1,19 +1,27 @@
-package constants;
-
-import java.awt.*;
-
-/**
- * [GameConstants.java]
- * Interface housing various general game constants.
- * Includes values for gravity, window sizes, proximity radii, and other game-related settings.
- * Centralizes important game parameters for easy access and modification.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public interface GameConstants {
-    int GRAVITY = 6;
-    Dimension windowSize = new Dimension(1080, 800);
-    int PROXIMITY_RADIUS = 500;
-    long INVINCIBILITY_DURATION = 1500L;
-    long POWERUP_RESPAWN_DURATION = 20000;
-}
+package constants;
+
+import java.awt.*;
+
+/**
+ * [GameConstants.java]
+ * Interface housing various general game constants.
+ * Includes values for gravity, the tick rate, window sizes, proximity radii, spatial grid sizing, and other game-related settings.
+ * Centralizes important game parameters for easy access and modification.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public interface GameConstants {
+    int GRAVITY = 6;
+    int TICK_RATE = 20; // ticks per second
+    int MAX_CATCH_UP_TICKS = 5; // most ticks run back to back after the server falls behind, the rest are dropped
+    int TICK_DURATION_SAMPLES = 1024; // recent tick durations kept for percentiles
+    Dimension windowSize = new Dimension(1080, 800);
+    int PROXIMITY_RADIUS = 500;
+    int SPATIAL_CELL_SIZE = 128;
+    int SPATIAL_BUCKETS = 1024;
+    long INVINCIBILITY_DURATION = 1500L;
+    long POWERUP_RESPAWN_DURATION = 20000;
+    int WORKER_THREADS = Runtime.getRuntime().availableProcessors(); // for collisions and enemy AI, 1 runs them on the engine thread
+    int PARALLEL_COLLISION_THRESHOLD = 128; // fewest pairs or moving objects worth splitting across threads
+    int PARALLEL_AI_THRESHOLD = 16; // fewest enemies worth splitting across threads
+}
@@ -1,37 +1,37 @@
-package constants;
-
-public interface ImageConstants {
-    //Image loading paths
-    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-    String CHARACTER1_PATH = "images/character1/character1.png";
-    String CHARACTER2_PATH = "images/character2/character2.png";
-    String CHARACTER3_PATH = "images/character3/character3.png";
-
-    String CHARACTER1_WALKINGRIGHT = "images/character1/character1_movingRight.png";
-    String CHARACTER2_WALKINGRIGHT = "images/character2/character2_movingRight.png";
-    String CHARACTER3_WALKINGRIGHT = "images/character3/character3_movingRight.png";
-
-    String CHARACTER1_WALKINGLEFT = "images/character1/character1_movingLeft.png";
-    String CHARACTER2_WALKINGLEFT = "images/character2/character2_movingLeft.png";
-    String CHARACTER3_WALKINGLEFT = "images/character3/character3_movingLeft.png";
-
-    String CHARACTER1_LOOKINGRIGHT = "images/character1/character1_lookingRight.png";
-    String CHARACTER2_LOOKINGRIGHT = "images/character2/character2_lookingRight.png";
-    String CHARACTER3_LOOKINGRIGHT = "images/character3/character3_lookingRight.png";
-
-    String CHARACTER1_LOOKINGLEFT = "images/character1/character1_lookingLeft.png";
-    String CHARACTER2_LOOKINGLEFT = "images/character2/character2_lookingLeft.png";
-    String CHARACTER3_LOOKINGLEFT = "images/character3/character3_lookingLeft.png";
-
-    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-    String ENEMY1_PATH = "images/enemies/Enemy1.png";
-    String ENEMY2_PATH = "images/enemies/Enemy2.png";
-    String ENEMY3_PATH = "images/enemies/Enemy3.png";
-    String TILE_PATH = "images/tiles/Tile_02.png";
-    String MIDDLE_TILE_PATH = "images/tiles/Tile_12.png";
-    String HAZARD_PATH = "images/tiles/hazard.png";
-    String POWER_UP_PATH = "images/tiles/powerup.png";
-    String BULLET_PATH = "images/attacks/red_ammo.png";
-    String MELEE_PATH = "images/attacks/punch.png";
-    String EXPLOSION_PATH = "iamges/attacks/explosion.png";
+package constants;
+
+public interface ImageConstants {
+    //Image loading paths
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    String CHARACTER1_PATH = "images/character1/character1.png";
+    String CHARACTER2_PATH = "images/character2/character2.png";
+    String CHARACTER3_PATH = "images/character3/character3.png";
+
+    String CHARACTER1_WALKINGRIGHT = "images/character1/character1_movingRight.png";
+    String CHARACTER2_WALKINGRIGHT = "images/character2/character2_movingRight.png";
+    String CHARACTER3_WALKINGRIGHT = "images/character3/character3_movingRight.png";
+
+    String CHARACTER1_WALKINGLEFT = "images/character1/character1_movingLeft.png";
+    String CHARACTER2_WALKINGLEFT = "images/character2/character2_movingLeft.png";
+    String CHARACTER3_WALKINGLEFT = "images/character3/character3_movingLeft.png";
+
+    String CHARACTER1_LOOKINGRIGHT = "images/character1/character1_lookingRight.png";
+    String CHARACTER2_LOOKINGRIGHT = "images/character2/character2_lookingRight.png";
+    String CHARACTER3_LOOKINGRIGHT = "images/character3/character3_lookingRight.png";
+
+    String CHARACTER1_LOOKINGLEFT = "images/character1/character1_lookingLeft.png";
+    String CHARACTER2_LOOKINGLEFT = "images/character2/character2_lookingLeft.png";
+    String CHARACTER3_LOOKINGLEFT = "images/character3/character3_lookingLeft.png";
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    String ENEMY1_PATH = "images/enemies/Enemy1.png";
+    String ENEMY2_PATH = "images/enemies/Enemy2.png";
+    String ENEMY3_PATH = "images/enemies/Enemy3.png";
+    String TILE_PATH = "images/tiles/Tile_02.png";
+    String MIDDLE_TILE_PATH = "images/tiles/Tile_12.png";
+    String HAZARD_PATH = "images/tiles/hazard.png";
+    String POWER_UP_PATH = "images/tiles/powerup.png";
+    String BULLET_PATH = "images/attacks/red_ammo.png";
+    String MELEE_PATH = "images/attacks/punch.png";
+    String EXPLOSION_PATH = "iamges/attacks/explosion.png";
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package constants;
+
+import networking.Connection;
+
+/**
+ * [NetworkConstants.java]
+ * Interface containing constants related to the networking layer of the game.
+ * Defines the server port, the size of the I/O thread pool, handshake timing, frame limits, outbound queue
+ * limits and what happens when a client goes over them, the snapshot history, the broadcaster and the message type codes of the binary protocol.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public interface NetworkConstants {
+    int SERVER_PORT = 5000;
+    int IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    long SELECT_TIMEOUT = 250L;
+    long HANDSHAKE_TIMEOUT = 5000L;
+
+    int HANDSHAKE_MAGIC = 0x48474D45; // "HGME"
+    int PROTOCOL_VERSION = 5;
+    int FRAME_HEADER_SIZE = 4;
+    int MAX_FRAME_SIZE = 1024 * 1024;
+    int READ_BUFFER_SIZE = 8 * 1024;
+    int BROADCAST_BUFFER_SIZE = 64 * 1024;
+    int MAX_IDLE_BROADCAST_BUFFERS = 16;
+    int MAX_QUEUED_FRAMES = 16; // frames of any kind per client, beyond this the overflow policy kicks in
+    long MAX_BACKLOG_TIME = 3000L;
+    Connection.OverflowPolicy OVERFLOW_POLICY = Connection.OverflowPolicy.DROP_STALE_SNAPSHOTS;
+    int SNAPSHOT_HISTORY = 32; // ticks a client's acknowledged baseline stays usable, 1.6 seconds at 20 ticks
+    long BROADCAST_POLL_NANOS = 100_000_000L; // how often the idle broadcaster checks whether the game is still on
+
+    // client to server, the request type code is followed by the ordinal of its subtype
+    int GAME_WINDOW_REQUEST = 1;
+    int NETWORKING_REQUEST = 2;
+    int NEW_ABILITY_REQUEST = 3;
+    int NEW_ACTION_REQUEST = 4;
+    int OTHER_REQUEST = 5;
+    int START_ACTION_REQUEST = 6;
+    int SNAPSHOT_ACK_REQUEST = 7;
+
+    // server to client
+    int WELCOME_MESSAGE = 1;
+    int SNAPSHOT_MESSAGE = 2;
+    int GAME_OVER_MESSAGE = 3;
+    int MAP_LOAD_MESSAGE = 4;
+    int INTERACTABLE_STATE_MESSAGE = 5;
+    int EFFECT_MESSAGE = 6;
+}
@@ -1,27 +1,42 @@
-package constants;
-
-/**
- * [PrefixConstants.java]
- * Interface containing constant string prefixes for different entity types in the game.
- * Provides unique identifiers for various game objects like avatars, enemies, and interactables.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public interface PrefixConstants {
-    String AVATAR_TYPE_PREFIX = "1";
-    String ENEMY_TYPE_PREFIX = "2";
-    String ATTACK_TYPE_PREFIX = "3";
-    String INTERACTABLE_TYPE_PREFIX = "4";
-    String NORMAN_ID_PREFIX = "11-";
-    String GOBLINO_ID_PREFIX = "12-";
-    String TITAN_ID_PREFIX = "13-";
-    String THUNDERGUARD_ID_PREFIX = "21-";
-    String MELEE_ID_PREFIX = "31-";
-    String BULLET_ID_PREFIX = "32-";
-    String ROCKET_ID_PREFIX = "33-";
-    String EXPLOSION_ID_PREFIX = "34-";
-    String WALL_ID_PREFIX = "41-";
-    String HAZARD_ID_PREFIX = "42-";
-    String POWERUP_ID_PREFIX = "43-";
-    String MIDDLE_WALL_ID = "44-";
-}
+package constants;
+
+/**
+ * [PrefixConstants.java]
+ * Interface containing constant string prefixes for different entity types in the game.
+ * Provides unique identifiers for various game objects like avatars, enemies, and interactables,
+ * along with the numeric kind codes the network protocol uses in place of the string prefixes.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public interface PrefixConstants {
+    String AVATAR_TYPE_PREFIX = "1";
+    String ENEMY_TYPE_PREFIX = "2";
+    String ATTACK_TYPE_PREFIX = "3";
+    String INTERACTABLE_TYPE_PREFIX = "4";
+    String NORMAN_ID_PREFIX = "11-";
+    String GOBLINO_ID_PREFIX = "12-";
+    String TITAN_ID_PREFIX = "13-";
+    String THUNDERGUARD_ID_PREFIX = "21-";
+    String MELEE_ID_PREFIX = "31-";
+    String BULLET_ID_PREFIX = "32-";
+    String ROCKET_ID_PREFIX = "33-";
+    String EXPLOSION_ID_PREFIX = "34-";
+    String WALL_ID_PREFIX = "41-";
+    String HAZARD_ID_PREFIX = "42-";
+    String POWERUP_ID_PREFIX = "43-";
+    String MIDDLE_WALL_ID = "44-";
+
+    // numeric kind codes used on the wire, always the digits of the matching ID prefix
+    int NORMAN_KIND = 11;
+    int GOBLINO_KIND = 12;
+    int TITAN_KIND = 13;
+    int THUNDERGUARD_KIND = 21;
+    int MELEE_KIND = 31;
+    int BULLET_KIND = 32;
+    int ROCKET_KIND = 33;
+    int EXPLOSION_KIND = 34;
+    int WALL_KIND = 41;
+    int HAZARD_KIND = 42;
+    int POWERUP_KIND = 43;
+    int MIDDLE_WALL_KIND = 44;
+}
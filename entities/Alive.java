@@ -1,111 +1,174 @@
-package entities;
-import constants.MovementConstants;
-
-/**
- * [Alive.java]
- * Represents a living game object in the game, such as avatars or enemies.
- * Extends GameObject and provides additional properties like health, speed, and collision handling.
- * Serves as a base class for entities that have health and can move.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public abstract class Alive extends GameObject implements MovementConstants {
-    private int health;
-    private int maxHealth;
-    private Vector speed;
-    private double defence;
-    private double damageMultiplier;
-    private double defenceMultiplier;
-
-    public Alive() {
-        super();
-    }
-
-    public Alive(Hitbox hitbox, String ID, int maxHealth, double defence, double damageMultiplier, double defenceMultiplier) {
-        super(hitbox, ID);
-        this.maxHealth = maxHealth;
-        this.health = maxHealth;
-        this.defence = defence;
-        this.speed = new Vector();
-        this.damageMultiplier = damageMultiplier;
-        this.defenceMultiplier = defenceMultiplier;
-    }
-    /**
-     * handleCollision
-     * Abstract method to handle collisions with other game objects.
-     * Specific behavior to be defined in subclasses.
-     * @param otherObj The other game object involved in the collision.
-     */
-    public abstract void handleCollision(GameObject otherObj);
-
-    /**
-     * getKnockedBack
-     * Applies a knockback effect to the entity based on collision with another object.
-     * Calculates the direction and intensity of the knockback.
-     * @param otherObject The object that the entity collides with.
-     */
-    protected void getKnockedBack(GameObject otherObject) {
-        double XSpeed, YSpeed, XDistance;
-
-        // If a projectile or explosion hits us, we want the knockback to be more severe
-        if ((otherObject instanceof Projectile) || otherObject instanceof Explosion) {
-            Projectile projectile = ((Projectile) otherObject);
-
-            XSpeed = projectile.getSpeed().getIntX();
-            YSpeed = KNOCKBACK_SPEED;
-
-        } else {
-            XDistance = (int) (this.getHitbox().getX() - otherObject.getHitbox().getX());
-
-            if (XDistance > 0) {
-                XSpeed = ((Math.abs(this.speed.getIntX())));
-            } else {
-                XSpeed = ((Math.abs(this.speed.getIntX())) * -1);
-            }
-
-            YSpeed = KNOCKBACK_SPEED;
-        }
-
-        this.speed.setIntX((int) XSpeed);
-        this.speed.setIntX((int) YSpeed);
-    }
-
-    /*
-    ====================================================================
-    getters and setters
-    ====================================================================
-     */
-    public int getHealth() {
-        return health;
-    }
-    public void setHealth(int health) {
-        this.health = health;
-    }
-    public int getMaxHealth() {
-        return maxHealth;
-    }
-    public void setMaxHealth(int maxHealth) {
-        this.maxHealth = maxHealth;
-    }
-    public double getDefence() {
-        return defence;
-    }
-    public Vector getSpeed() {
-        return speed;
-    }
-    public void setSpeed(Vector speed) {
-        this.speed = speed;
-    }
-    public double getDamageMultiplier() {
-        return damageMultiplier;
-    }
-    public void setDamageMultiplier(double damageMultiplier) {
-        this.damageMultiplier = damageMultiplier;
-    }
-    public double getDefenceMultiplier() {
-        return defenceMultiplier;
-    }
-    public void setDefenceMultiplier(double defenceMultiplier) {
-        this.defenceMultiplier = defenceMultiplier;
-    }
-}
+package entities;
+import constants.MovementConstants;
+
+/**
+ * [Alive.java]
+ * Represents a living game object in the game, such as avatars or enemies.
+ * Extends GameObject and provides additional properties like health, speed, and collision handling.
+ * Serves as a base class for entities that have health and can move.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public abstract class Alive extends GameObject implements MovementConstants {
+    private int health;
+    private int maxHealth;
+    private Vector speed;
+    private double defence;
+    private double damageMultiplier;
+    private double defenceMultiplier;
+    private Vector storedSpeed; // the view of the speed in the store, while this object is in one
+
+    public Alive() {
+        super();
+    }
+
+    public Alive(Hitbox hitbox, String ID, int maxHealth, double defence, double damageMultiplier, double defenceMultiplier) {
+        super(hitbox, ID);
+        this.maxHealth = maxHealth;
+        this.health = maxHealth;
+        this.defence = defence;
+        this.speed = new Vector();
+        this.damageMultiplier = damageMultiplier;
+        this.defenceMultiplier = defenceMultiplier;
+    }
+    @Override
+    void attach(EntityStore store, int slot) {
+        super.attach(store, slot);
+        store.health[slot] = this.health;
+        store.speedX[slot] = this.speed.getIntX();
+        store.speedY[slot] = this.speed.getIntY();
+        this.storedSpeed = store.speedOf(slot);
+    }
+
+    @Override
+    void detach() {
+        this.health = store.health[slot];
+        this.speed = new Vector(store.speedX[slot], store.speedY[slot]);
+        this.storedSpeed = null;
+        super.detach();
+    }
+
+    /**
+     * handleCollision
+     * Handles a collision with another game object through the handler of their collision categories.
+     * @param otherObj The other game object involved in the collision.
+     */
+    public void handleCollision(GameObject otherObj) {
+        CollisionDispatch.collide(this, otherObj);
+    }
+
+    /**
+     * hitByAttack
+     * Called when an attack of another avatar reaches this entity.
+     * @param attack The attack.
+     */
+    public abstract void hitByAttack(Attacks attack);
+
+    /**
+     * hitWall
+     * Called when the path of this entity runs into a wall.
+     * @param wall The wall.
+     */
+    public abstract void hitWall(Interactable wall);
+
+    /**
+     * touchHazard
+     * Called when this entity touches a hazard.
+     * @param hazard The hazard.
+     */
+    public abstract void touchHazard(Hazard hazard);
+
+    /**
+     * touchPowerUp
+     * Called when this entity touches a power-up.
+     * @param powerUp The power-up.
+     */
+    public abstract void touchPowerUp(PowerUp powerUp);
+
+    /**
+     * getKnockedBack
+     * Applies a knockback effect to the entity based on collision with another object.
+     * Calculates the direction and intensity of the knockback.
+     * @param otherObject The object that the entity collides with.
+     */
+    protected void getKnockedBack(GameObject otherObject) {
+        knockBack(knockbackAwayFrom(otherObject));
+    }
+
+    /**
+     * getKnockedBack
+     * Applies the knockback of an attack, which decides how hard it pushes.
+     * @param attack The attack that hit the entity.
+     */
+    protected void getKnockedBack(Attacks attack) {
+        knockBack(attack.getKnockbackSpeed(this));
+    }
+
+    /**
+     * knockbackAwayFrom
+     * The horizontal knockback speed pushing this entity away from another object.
+     * @param otherObject The object pushing the entity.
+     * @return int, the speed.
+     */
+    int knockbackAwayFrom(GameObject otherObject) {
+        double XDistance = (int) (this.getHitbox().getX() - otherObject.getHitbox().getX());
+
+        if (XDistance > 0) {
+            return Math.abs(this.getSpeed().getIntX());
+        }
+        return Math.abs(this.getSpeed().getIntX()) * -1;
+    }
+
+    private void knockBack(int XSpeed) {
+        this.getSpeed().setIntX(XSpeed);
+        this.getSpeed().setIntX(KNOCKBACK_SPEED);
+    }
+
+    /*
+    ====================================================================
+    getters and setters
+    ====================================================================
+     */
+    public int getHealth() {
+        return (store == null) ? health : store.health[slot];
+    }
+    public void setHealth(int health) {
+        if (store == null) {
+            this.health = health;
+        } else {
+            store.health[slot] = health;
+        }
+    }
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+    public void setMaxHealth(int maxHealth) {
+        this.maxHealth = maxHealth;
+    }
+    public double getDefence() {
+        return defence;
+    }
+    public Vector getSpeed() {
+        return (store == null) ? speed : storedSpeed;
+    }
+    public void setSpeed(Vector speed) {
+        if (store == null) {
+            this.speed = speed;
+        } else {
+            store.speedX[slot] = speed.getIntX();
+            store.speedY[slot] = speed.getIntY();
+        }
+    }
+    public double getDamageMultiplier() {
+        return damageMultiplier;
+    }
+    public void setDamageMultiplier(double damageMultiplier) {
+        this.damageMultiplier = damageMultiplier;
+    }
+    public double getDefenceMultiplier() {
+        return defenceMultiplier;
+    }
+    public void setDefenceMultiplier(double defenceMultiplier) {
+        this.defenceMultiplier = defenceMultiplier;
+    }
+}
@@ -0,0 +1,213 @@
+package entities;
+
+import constants.PrefixConstants;
+import java.util.function.Supplier;
+
+/**
+ * [AttackPools.java]
+ * Reuses the melee attacks, bullets, rockets and explosions of a game instead of creating new ones for every click
+ * and impact. An attack is acquired with all of its fields reset, lives for a few ticks (or only the tick it is made,
+ * for instant ones) and is released by the engine when it removes the attack, after which the next acquire of the same type hands it out again. Each pool counts its
+ * hits, misses and the most attacks of its type alive at once so the idle size can be tuned.
+ * Only the engine thread may acquire and release.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class AttackPools implements PrefixConstants {
+    private final Pool<Melee> melees;
+    private final Pool<Bullet> bullets;
+    private final Pool<Rocket> rockets;
+    private final Pool<Explosion> explosions;
+
+    /**
+     * Constructor for AttackPools.
+     * @param maxIdle The most released attacks of each type kept for reuse, the rest are left to the garbage collector.
+     */
+    public AttackPools(int maxIdle) {
+        this.melees = new Pool<>(Melee::new, maxIdle);
+        this.bullets = new Pool<>(Bullet::new, maxIdle);
+        this.rockets = new Pool<>(Rocket::new, maxIdle);
+        this.explosions = new Pool<>(Explosion::new, maxIdle);
+    }
+
+    /**
+     * acquireMelee
+     * Hands out a melee attack that starts now.
+     * @param owner The number of the avatar making the attack.
+     * @param x The x of its hitbox.
+     * @param y The y of its hitbox.
+     * @param width The width of its hitbox.
+     * @param height The height of its hitbox.
+     * @param damage The damage it does.
+     * @return Melee, the reset attack.
+     */
+    public Melee acquireMelee(int owner, int x, int y, int width, int height, int damage) {
+        Melee melee = melees.acquire();
+        melee.reset(MELEE_ID_PREFIX, owner, damage);
+        melee.resetHitbox(x, y, width, height);
+        return melee;
+    }
+
+    /**
+     * acquireBullet
+     * Hands out a bullet standing still, its speed is set through getSpeed.
+     * @param owner The number of the avatar that fired it.
+     * @param x The x of its hitbox.
+     * @param y The y of its hitbox.
+     * @param width The width of its hitbox.
+     * @param height The height of its hitbox.
+     * @param damage The damage it does.
+     * @return Bullet, the reset bullet.
+     */
+    public Bullet acquireBullet(int owner, int x, int y, int width, int height, int damage) {
+        Bullet bullet = bullets.acquire();
+        bullet.reset(BULLET_ID_PREFIX, owner, damage);
+        bullet.resetHitbox(x, y, width, height);
+        bullet.resetSpeed();
+        return bullet;
+    }
+
+    /**
+     * acquireRocket
+     * Hands out a rocket standing still, its speed is set through getSpeed.
+     * @param owner The number of the avatar that fired it.
+     * @param x The x of its hitbox.
+     * @param y The y of its hitbox.
+     * @param width The width of its hitbox.
+     * @param height The height of its hitbox.
+     * @param damage The damage it does.
+     * @return Rocket, the reset rocket.
+     */
+    public Rocket acquireRocket(int owner, int x, int y, int width, int height, int damage) {
+        Rocket rocket = rockets.acquire();
+        rocket.reset(ROCKET_ID_PREFIX, owner, damage);
+        rocket.resetHitbox(x, y, width, height);
+        rocket.resetSpeed();
+        return rocket;
+    }
+
+    /**
+     * acquireExplosion
+     * Hands out an explosion that has just started.
+     * @param owner The number of the avatar that caused it.
+     * @param x The x it starts at.
+     * @param y The y it starts at.
+     * @param damage The damage it does.
+     * @return Explosion, the reset explosion.
+     */
+    public Explosion acquireExplosion(int owner, int x, int y, int damage) {
+        Explosion explosion = explosions.acquire();
+        explosion.reset(EXPLOSION_ID_PREFIX, owner, damage);
+        explosion.resetExplosion(x, y);
+        return explosion;
+    }
+
+    /**
+     * release
+     * Returns an attack to its pool once it is out of the game. Attacks that did not come from these pools, or that
+     * were already released, are ignored, so an attack removed twice in one tick is only reused once.
+     * @param attack The attack that was removed.
+     */
+    public void release(Attacks attack) {
+        if (attack instanceof Melee) {
+            melees.release((Melee) attack);
+        } else if (attack instanceof Bullet) {
+            ((Bullet) attack).stopLanding();
+            bullets.release((Bullet) attack);
+        } else if (attack instanceof Rocket) {
+            ((Rocket) attack).stopLanding();
+            rockets.release((Rocket) attack);
+        } else if (attack instanceof Explosion) {
+            explosions.release((Explosion) attack);
+        }
+    }
+
+    /**
+     * [Pool.java]
+     * The idle attacks of one type, kept on a stack, along with how well reusing them is working.
+     * @param <T> The type of attack.
+     */
+    public static class Pool<T extends Attacks> {
+        private final Supplier<T> factory;
+        private final Attacks[] idle;
+        private int idleCount;
+        private long hits; // acquires served by an idle attack
+        private long misses; // acquires that had to create one
+        private int live;
+        private int highWater; // most attacks of this type out at once
+
+        private Pool(Supplier<T> factory, int maxIdle) {
+            this.factory = factory;
+            this.idle = new Attacks[Math.max(0, maxIdle)];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T acquire() {
+            T attack;
+            if (idleCount > 0) {
+                attack = (T) idle[--idleCount];
+                idle[idleCount] = null;
+                hits++;
+            } else {
+                attack = factory.get();
+                misses++;
+            }
+            attack.pool = this;
+            live++;
+            highWater = Math.max(highWater, live);
+            return attack;
+        }
+
+        private void release(T attack) {
+            if (attack.pool != this) {
+                return;
+            }
+            attack.pool = null;
+            live--;
+            if (idleCount < idle.length) {
+                idle[idleCount++] = attack;
+            }
+        }
+
+        /*
+        ====================================================================
+        getters
+        ====================================================================
+         */
+
+        public long getHits() {
+            return hits;
+        }
+        public long getMisses() {
+            return misses;
+        }
+        public int getLive() {
+            return live;
+        }
+        public int getHighWater() {
+            return highWater;
+        }
+        public int getIdle() {
+            return idleCount;
+        }
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public Pool<Melee> getMelees() {
+        return melees;
+    }
+    public Pool<Bullet> getBullets() {
+        return bullets;
+    }
+    public Pool<Rocket> getRockets() {
+        return rockets;
+    }
+    public Pool<Explosion> getExplosions() {
+        return explosions;
+    }
+}
@@ -1,53 +1,197 @@
-package entities;
-
-import constants.AttackConstants;
-
-/**
- * [Attacks.java]
- * This abstract class represents a generic attack in the game.
- * It extends the GameObject class, providing functionality for handling damage.
- * @author  Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public abstract class Attacks extends GameObject implements AttackConstants {
-    private int damage;
-
-    /**
-     * Constructor for Attacks.
-     * Initializes an attack with a specified hitbox, ID, and damage.
-     * @param hitbox The hitbox representing the attack's area.
-     * @param ID The unique identifier for this attack.
-     * @param damage The damage value of the attack.
-     */
-    public Attacks(Hitbox hitbox, String ID, int damage) {
-        super(hitbox, ID);
-        this.damage = damage;
-    }
-
-    /**
-     * getDamage
-     * Retrieves the damage value of the attack.
-     * @return int, the damage value of the attack.
-     */
-    public int getDamage() {
-        return damage;
-    }
-
-    /**
-     * setDamage
-     * Sets the damage value of the attack.
-     * @param damage The damage value to be set for the attack.
-     */
-    public void setDamage(int damage) {
-        this.damage = damage;
-    }
-
-    /**
-     * getCreatorID
-     * Retrieves the ID of the creator of the attack.
-     * @return String, the ID of the creator of the attack.
-     */
-    public String getCreatorID() {
-        return (this.getIDWithoutPrefix());
-    }
-}
+package entities;
+
+import constants.AttackConstants;
+
+/**
+ * [Attacks.java]
+ * This abstract class represents a generic attack in the game.
+ * It extends the GameObject class, providing functionality for handling damage.
+ * @author  Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public abstract class Attacks extends GameObject implements AttackConstants {
+    private int damage;
+    AttackPools.Pool<?> pool; // the pool that handed this attack out, null while idle or when not pooled
+
+    {
+        category = CATEGORY_ATTACK;
+        collisionMask = ATTACK_MASK;
+    }
+
+    /**
+     * Constructor for Attacks.
+     * Initializes an attack with a specified hitbox, ID, and damage.
+     * @param hitbox The hitbox representing the attack's area.
+     * @param ID The unique identifier for this attack.
+     * @param damage The damage value of the attack.
+     */
+    public Attacks(Hitbox hitbox, String ID, int damage) {
+        super(hitbox, ID);
+        this.damage = damage;
+    }
+
+    @Override
+    void attach(EntityStore store, int slot) {
+        super.attach(store, slot);
+        store.owner[slot] = this.getNumber();
+    }
+
+    /**
+     * reset
+     * Turns a released attack into a new one, subclasses reset their own fields as well.
+     * @param prefix The ID prefix of the type of attack.
+     * @param owner The number of the avatar making the attack.
+     * @param damage The damage value of the attack.
+     */
+    void reset(String prefix, int owner, int damage) {
+        this.setID(prefix, owner);
+        this.damage = damage;
+    }
+
+    /**
+     * resetHitbox
+     * Places the hitbox of a reused attack as if it had just been created there.
+     * @param x The x of the hitbox.
+     * @param y The y of the hitbox.
+     * @param width The width of the hitbox.
+     * @param height The height of the hitbox.
+     */
+    void resetHitbox(int x, int y, int width, int height) {
+        Hitbox hitbox = this.getHitbox();
+        hitbox.setBounds(x, y, width, height);
+        hitbox.markPrevious();
+        hitbox.setLastCollided(GameClock.NEVER);
+    }
+
+    /**
+     * getDamage
+     * Retrieves the damage value of the attack.
+     * @return int, the damage value of the attack.
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /**
+     * setDamage
+     * Sets the damage value of the attack.
+     * @param damage The damage value to be set for the attack.
+     */
+    public void setDamage(int damage) {
+        this.damage = damage;
+    }
+
+    /**
+     * castAgainst
+     * Works out when the path of the attack first reaches the map, once when it is made, since the map never moves.
+     * Attacks that do not fly have nothing to work out.
+     * @param walls The walls of the map.
+     */
+    public void castAgainst(StaticBvh walls) {
+    }
+
+    /**
+     * hasLanded
+     * Whether the path of the attack reaches the map, or leaves it for good, during this tick.
+     * @return boolean, true once the attack should stop.
+     */
+    public boolean hasLanded() {
+        return false;
+    }
+
+    /**
+     * getLandingTime
+     * When during this tick the attack reached the map.
+     * @return double, the fraction of the tick (0 to 1), or -1 if it left the map without reaching a wall.
+     */
+    public double getLandingTime() {
+        return -1;
+    }
+
+    /**
+     * impact
+     * What the attack leaves behind once it is stopped by the map.
+     * @param pools The pools a new attack is taken from.
+     * @return Attacks, the new attack, or null if nothing is left behind.
+     */
+    public Attacks impact(AttackPools pools) {
+        return null;
+    }
+
+    /**
+     * isInstant
+     * Whether the attack is settled on the tick it is made, against everything it reaches, instead of being kept in
+     * the game and checked for collisions every tick. Clients are only sent an effect to show for getEffectDuration.
+     * @return boolean, true for explosions and swings.
+     */
+    public boolean isInstant() {
+        return false;
+    }
+
+    /**
+     * reaches
+     * Checks whether the area of an instant attack reaches a hitbox, by default when the hitboxes overlap.
+     * @param target The hitbox of what could be hit.
+     * @return boolean, true if it is hit.
+     */
+    public boolean reaches(Hitbox target) {
+        return this.getHitbox().intersects(target);
+    }
+
+    /**
+     * getDamageTo
+     * The damage the attack does to what it hit, before defence. By default the whole damage.
+     * @param target The entity that was hit.
+     * @return int, the damage.
+     */
+    int getDamageTo(Alive target) {
+        return damage;
+    }
+
+    /**
+     * getEffectDuration
+     * How long clients show an instant attack after it is made.
+     * @return long, the duration in milliseconds.
+     */
+    public long getEffectDuration() {
+        return 0L;
+    }
+
+    /**
+     * getKnockbackSpeed
+     * How hard the attack pushes what it hits sideways, by default away from the attack.
+     * @param target The entity that was hit.
+     * @return int, the horizontal knockback speed.
+     */
+    int getKnockbackSpeed(Alive target) {
+        return target.knockbackAwayFrom(this);
+    }
+
+    /**
+     * getCollisionGroup
+     * An attack shares the group of the avatar that created it.
+     * @return int, the group.
+     */
+    @Override
+    public int getCollisionGroup() {
+        return this.getOwner() + 1;
+    }
+
+    /**
+     * getCreatorID
+     * Retrieves the ID of the creator of the attack.
+     * @return String, the ID of the creator of the attack.
+     */
+    public String getCreatorID() {
+        return String.valueOf(getOwner());
+    }
+
+    /**
+     * getOwner
+     * Retrieves the number of the avatar that created the attack, the same number as in getCreatorID.
+     * @return int, the number of the creator of the attack.
+     */
+    public int getOwner() {
+        return (store == null) ? this.getNumber() : store.owner[slot];
+    }
+}
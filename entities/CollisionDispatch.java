@@ -0,0 +1,108 @@
+package entities;
+
+import constants.CollisionConstants;
+
+/**
+ * [CollisionDispatch.java]
+ * Decides what happens when two objects collide from their collision categories alone. Every pair of categories
+ * has one entry in a table, stored with the lower category first, so a collision is a table lookup and a call
+ * instead of a chain of instanceof checks on both objects. Pairs whose categories do not collide, or that belong
+ * to the same collision group such as an avatar and its own attacks, are turned away by canCollide before any
+ * swept test is done.
+ * Only the engine thread may dispatch collisions, the handlers change health, speeds and positions.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public final class CollisionDispatch implements CollisionConstants {
+    private static final PairHandler[] handlers = new PairHandler[CATEGORY_COUNT * CATEGORY_COUNT];
+
+    static {
+        register(CATEGORY_AVATAR, CATEGORY_ENEMY, (avatar, enemy) -> {
+            ((Avatar) avatar).hitByEnemy((Enemy) enemy);
+            return false;
+        });
+        register(CATEGORY_AVATAR, CATEGORY_ATTACK, (avatar, attack) -> {
+            ((Avatar) avatar).hitByAttack((Attacks) attack);
+            return true; // an attack that reaches an avatar is used up
+        });
+        register(CATEGORY_ENEMY, CATEGORY_ATTACK, (enemy, attack) -> {
+            ((Enemy) enemy).hitByAttack((Attacks) attack);
+            return false;
+        });
+        PairHandler wall = (alive, interactable) -> {
+            ((Alive) alive).hitWall((Interactable) interactable);
+            return false;
+        };
+        register(CATEGORY_AVATAR, CATEGORY_STATIC, wall);
+        register(CATEGORY_ENEMY, CATEGORY_STATIC, wall);
+        PairHandler trigger = (alive, interactable) -> {
+            ((Interactable) interactable).onEnter((Alive) alive); // TriggerVolumes sends the later events
+            return false;
+        };
+        register(CATEGORY_AVATAR, CATEGORY_TRIGGER, trigger);
+        register(CATEGORY_ENEMY, CATEGORY_TRIGGER, trigger);
+        // attacks against the map are handled by the engine, which stops projectiles where they hit
+    }
+
+    private CollisionDispatch() {}
+
+    private static void register(int first, int second, PairHandler handler) {
+        handlers[(index(first) * CATEGORY_COUNT) + index(second)] = handler;
+    }
+
+    private static int index(int category) {
+        return Integer.numberOfTrailingZeros(category);
+    }
+
+    /**
+     * canCollide
+     * Checks whether two objects could ever collide, from their categories, masks and collision groups.
+     * @param first One object of the pair.
+     * @param second The other object of the pair.
+     * @return boolean, true if the pair is worth testing.
+     */
+    public static boolean canCollide(GameObject first, GameObject second) {
+        int group = first.getCollisionGroup();
+        return ((first.category & second.collisionMask) != 0)
+                && ((group == NO_COLLISION_GROUP) || (group != second.getCollisionGroup()));
+    }
+
+    /**
+     * collide
+     * Applies the collision of two objects through the handler of their categories, in either order.
+     * @param first One object of the pair.
+     * @param second The other object of the pair.
+     * @return GameObject, the object the collision used up, such as an attack that hit an avatar, or null.
+     */
+    public static GameObject collide(GameObject first, GameObject second) {
+        if (!canCollide(first, second)) {
+            return null;
+        }
+        if (first.category > second.category) {
+            GameObject swap = first;
+            first = second;
+            second = swap;
+        }
+        PairHandler handler = handlers[(index(first.category) * CATEGORY_COUNT) + index(second.category)];
+        if ((handler == null) || !handler.handle(first, second)) {
+            return null;
+        }
+        return second;
+    }
+
+    /**
+     * [PairHandler.java]
+     * What happens when objects of two categories collide, the object of the lower category comes first.
+     */
+    @FunctionalInterface
+    private interface PairHandler {
+        /**
+         * handle
+         * Applies the collision.
+         * @param first The object of the lower category.
+         * @param second The object of the higher category.
+         * @return boolean, true if the collision used up the second object.
+         */
+        boolean handle(GameObject first, GameObject second);
+    }
+}
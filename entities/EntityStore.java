@@ -0,0 +1,275 @@
+package entities;
+
+import java.util.Arrays;
+
+/**
+ * [EntityStore.java]
+ * Keeps the state the simulation touches every tick (hitbox, where it started the tick, when it last collided, speed,
+ * health, flags, owner and kind) of every avatar, enemy and attack in the game in one primitive array per field,
+ * indexed by the slot of the object. While an object is in the store its getters and setters read and write these
+ * arrays, and loops such as moving every projectile or marking where everything starts the tick run over a few
+ * packed arrays instead of following references from each object to its hitbox, speed vector and point.
+ * The hitbox keeps a copy of its position and size as well, since most of the game reads the fields of the
+ * rectangle directly. Setters write both, and the loops here that move slots write the copy back themselves, so
+ * reading a hitbox never has to write anything.
+ * Objects copy their state into the store when added and back out when removed, so they keep working on their own.
+ * Slots come from a HandleAllocator, so each object in the store also has a generational handle that other code can
+ * keep instead of a reference or a string ID, and resolve in O(1) for as long as the object stays in the store.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class EntityStore {
+    public static final int FLAG_PROJECTILE = 1; // moved by integrateProjectiles
+    public static final int FLAG_DROP = 2; // falls while it flies
+
+    int[] x;
+    int[] y;
+    int[] width;
+    int[] height;
+    int[] previousX; // where the hitbox was at the start of the tick
+    int[] previousY;
+    long[] lastCollided;
+    int[] speedX;
+    int[] speedY;
+    int[] health;
+    int[] flags;
+    int[] owner; // number of the avatar that created an attack
+    int[] kind; // prefix of the ID
+    private GameObject[] objects; // null for free slots
+    private StoredSpeed[] speeds; // the speed view of each slot, made the first time the slot is used
+    private final HandleAllocator handles;
+
+    /**
+     * Constructor for EntityStore.
+     * @param capacity The number of objects to make room for, it grows if needed.
+     */
+    public EntityStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.width = new int[capacity];
+        this.height = new int[capacity];
+        this.previousX = new int[capacity];
+        this.previousY = new int[capacity];
+        this.lastCollided = new long[capacity];
+        this.speedX = new int[capacity];
+        this.speedY = new int[capacity];
+        this.health = new int[capacity];
+        this.flags = new int[capacity];
+        this.owner = new int[capacity];
+        this.kind = new int[capacity];
+        this.objects = new GameObject[capacity];
+        this.speeds = new StoredSpeed[capacity];
+        this.handles = new HandleAllocator(capacity);
+    }
+
+    /**
+     * add
+     * Gives an object a slot and moves its state into the store, from then on the object reads and writes the store.
+     * Adding an object that is already in the store does nothing.
+     * @param object The object to add.
+     */
+    public void add(GameObject object) {
+        if (object.store == this) {
+            return;
+        }
+        int slot = HandleAllocator.slotOf(handles.allocate());
+        if (slot == objects.length) {
+            grow();
+        }
+        objects[slot] = object;
+        flags[slot] = 0;
+        object.attach(this, slot);
+    }
+
+    /**
+     * remove
+     * Moves the state of an object back into the object and frees its slot for the next object.
+     * Removing an object that is not in the store does nothing.
+     * @param object The object to remove.
+     */
+    public void remove(GameObject object) {
+        if (object.store != this) {
+            return;
+        }
+        int slot = object.slot;
+        object.detach();
+        objects[slot] = null;
+        flags[slot] = 0;
+        handles.release(handles.handleOf(slot));
+    }
+
+    /**
+     * clear
+     * Removes every object, used when the map is wiped.
+     */
+    public void clear() {
+        for (int slot = 0; slot < handles.getSlots(); slot++) {
+            if (objects[slot] != null) {
+                objects[slot].detach();
+                objects[slot] = null;
+            }
+            flags[slot] = 0;
+        }
+        handles.clear();
+    }
+
+    /**
+     * handleOf
+     * The handle of an object in the store, which goes stale once the object is removed.
+     * @param object The object.
+     * @return int, the handle, or HandleAllocator.NONE if the object is not in this store.
+     */
+    public int handleOf(GameObject object) {
+        return (object.store == this) ? handles.handleOf(object.slot) : HandleAllocator.NONE;
+    }
+
+    /**
+     * resolve
+     * Finds the object a handle refers to.
+     * @param handle The handle of the object.
+     * @return GameObject, the object, or null if it has been removed since the handle was taken.
+     */
+    public GameObject resolve(int handle) {
+        return handles.isLive(handle) ? objects[HandleAllocator.slotOf(handle)] : null;
+    }
+
+    /**
+     * markPrevious
+     * Records where every object in the store starts this tick, the movement since then is what gets swept.
+     */
+    public void markPrevious() {
+        int slots = handles.getSlots();
+        System.arraycopy(x, 0, previousX, 0, slots);
+        System.arraycopy(y, 0, previousY, 0, slots);
+    }
+
+    /**
+     * integrateProjectiles
+     * Moves every projectile by its speed, then pulls the ones that fall down by the drop.
+     * @param drop How much the speed of a falling projectile grows downwards every tick.
+     */
+    public void integrateProjectiles(int drop) {
+        int slots = handles.getSlots();
+        for (int slot = 0; slot < slots; slot++) {
+            int slotFlags = flags[slot];
+            if ((slotFlags & FLAG_PROJECTILE) != 0) {
+                x[slot] += speedX[slot];
+                y[slot] += speedY[slot];
+                if ((slotFlags & FLAG_DROP) != 0) {
+                    speedY[slot] += drop;
+                }
+                load(slot, objects[slot].getHitbox());
+            }
+        }
+    }
+
+    /**
+     * load
+     * Copies the stored hitbox of a slot into the hitbox object that views it, after the store moved the slot.
+     * @param slot The slot of the object.
+     * @param hitbox The hitbox of the object.
+     */
+    void load(int slot, Hitbox hitbox) {
+        hitbox.x = x[slot];
+        hitbox.y = y[slot];
+        hitbox.width = width[slot];
+        hitbox.height = height[slot];
+    }
+
+    /**
+     * save
+     * Copies a hitbox object into the slot it views, called whenever the hitbox changes.
+     * @param slot The slot of the object.
+     * @param hitbox The hitbox of the object.
+     */
+    void save(int slot, Hitbox hitbox) {
+        x[slot] = hitbox.x;
+        y[slot] = hitbox.y;
+        width[slot] = hitbox.width;
+        height[slot] = hitbox.height;
+    }
+
+    /**
+     * speedOf
+     * The vector that reads and writes the stored speed of a slot, handed out by getSpeed while in the store.
+     * Each slot keeps one view for every object that takes it, so attaching allocates nothing once the slot exists.
+     * @param slot The slot of the object.
+     * @return Vector, the view of the speed.
+     */
+    Vector speedOf(int slot) {
+        if (speeds[slot] == null) {
+            speeds[slot] = new StoredSpeed(slot);
+        }
+        return speeds[slot];
+    }
+
+    private void grow() {
+        int capacity = objects.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        lastCollided = Arrays.copyOf(lastCollided, capacity);
+        speedX = Arrays.copyOf(speedX, capacity);
+        speedY = Arrays.copyOf(speedY, capacity);
+        health = Arrays.copyOf(health, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+    }
+
+    /**
+     * [StoredSpeed.java]
+     * The speed of an object in the store, every read and write goes to the speed arrays of its slot.
+     */
+    @SuppressWarnings("serial")
+    private class StoredSpeed extends Vector {
+        private final int slot;
+
+        private StoredSpeed(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public int getIntX() {
+            return speedX[slot];
+        }
+        @Override
+        public int getIntY() {
+            return speedY[slot];
+        }
+        @Override
+        public void setIntX(int x) {
+            speedX[slot] = x;
+        }
+        @Override
+        public void setIntY(int y) {
+            speedY[slot] = y;
+        }
+        @Override
+        public String toString() {
+            return "VECTOR WITH X" + speedX[slot] + " WITH Y " + speedY[slot];
+        }
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public GameObject get(int slot) {
+        return objects[slot];
+    }
+    public int getSlots() {
+        return handles.getSlots();
+    }
+    public int size() {
+        return handles.size();
+    }
+}
@@ -1,108 +1,100 @@
-package entities;
-
-import java.awt.*;
-import java.util.LinkedList;
-import java.util.Random;
-import static entities.Projectile.calculateProjectileSpeed;
-
-/**
- * [Explosion.java]
- * Represents an explosion attack in the game.
- * It extends the Attacks class and includes functionality for expanding radius and creating shrapnel.
- * @author  Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public class Explosion extends Attacks {
-    private int radius;
-    private int shrapnelNum;
-
-    /**
-     * Constructor for Explosion.
-     * Initializes an explosion with a specified location and damage.
-     * @param ID The unique identifier for this explosion.
-     * @param point The central point of the explosion.
-     * @param damage The damage value of the explosion.
-     */
-    public Explosion(String ID, Vector point , int damage) {
-        super(new Hitbox(point, new Dimension(10, 10)), ID, damage);
-        this.radius = INITIAL_EXPLOSION_RADIUS;
-        setupValues();
-    }
-
-    /**
-     * setupValues
-     * Sets up initial values for the explosion, including the number of shrapnel.
-     */
-    private void setupValues() {
-        Random random = new Random();
-        this.shrapnelNum = random.nextInt(20) + 5;
-    }
-
-    /**
-     * startShrapnel
-     * Initiates shrapnel projectiles from the explosion.
-     * @return LinkedList<Bullet>, a list of bullet objects representing shrapnel.
-     */
-    private LinkedList<Bullet> startShrapnel() {
-        Random random = new Random();
-        int randomX;
-        int randomY;
-        LinkedList<Bullet> shrapnel = new LinkedList<>();
-
-        while (shrapnelNum > 0){
-            randomX = random.nextInt(200)-100;
-            randomY = random.nextInt(200)-100;
-
-            Vector speed = calculateProjectileSpeed(new
-                            Vector((int) this.getHitbox().getCenterX(), (int) this.getHitbox().getY()),
-                            new Vector(randomX, randomY)
-            );
-
-            shrapnel.add(new Bullet(
-                        (BULLET_ID_PREFIX + this.getCreatorID()),
-                        new Hitbox(((int) this.getHitbox().getCenterX()), ((int) this.getHitbox().getCenterY()),
-                        20, 20), SHRAPNEL_DAMAGE, speed
-            ));
-        }
-
-        return shrapnel;
-    }
-
-    /**
-     * update
-     * Updates the expansion of the explosion each frame.
-     */
-    public void update() {
-        radius = ((MAX_EXPLOSION_RADIUS - radius) / 6) + 1;
-        this.getHitbox().translate(-radius, -radius);
-        this.getHitbox().width = this.getHitbox().width + (radius * 2);
-        this.getHitbox().height = this.getHitbox().height + (radius * 2);
-    }
-
-
-    /**
-     * checkSize
-     * Checks if the explosion has reached its maximum radius.
-     * @return boolean, true if the explosion has reached maximum size, false otherwise.
-     */
-    public boolean checkSize() {
-        if (radius >= MAX_EXPLOSION_RADIUS) {
-            return true;
-        }
-        return false;
-    }
-
-    /*
-    ==================================================================================
-    getters and setters
-    ==================================================================================
-     */
-
-    public int getRadius() {
-        return radius;
-    }
-
-    public void setRadius(int radius) {
-        this.radius = radius;
-    }
-}
+package entities;
+
+/**
+ * [Explosion.java]
+ * Represents an explosion attack in the game.
+ * The explosions of the game are instant: they start at their full radius, hurt everything within it on the tick
+ * they are made, less the further it is from the center, and are only shown by the clients afterwards.
+ * @author  Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public class Explosion extends Attacks {
+    private int radius;
+
+    /**
+     * Constructor for Explosion.
+     * Initializes an explosion at its full radius around a point, with a specified damage.
+     * @param ID The unique identifier for this explosion.
+     * @param point The central point of the explosion.
+     * @param damage The damage value of the explosion.
+     */
+    public Explosion(String ID, Vector point , int damage) {
+        super(new Hitbox(point.getIntX() - MAX_EXPLOSION_RADIUS, point.getIntY() - MAX_EXPLOSION_RADIUS,
+                MAX_EXPLOSION_RADIUS * 2, MAX_EXPLOSION_RADIUS * 2), ID, damage);
+        this.radius = MAX_EXPLOSION_RADIUS;
+    }
+
+    /**
+     * Constructor for a blank Explosion, only used by AttackPools before resetting it.
+     */
+    Explosion() {
+        this(EXPLOSION_ID_PREFIX + 0, new Vector(), 0);
+    }
+
+    /**
+     * resetExplosion
+     * Restarts a reused explosion at a new location, at its full radius.
+     * @param x The x of its center.
+     * @param y The y of its center.
+     */
+    void resetExplosion(int x, int y) {
+        this.resetHitbox(x - MAX_EXPLOSION_RADIUS, y - MAX_EXPLOSION_RADIUS, MAX_EXPLOSION_RADIUS * 2, MAX_EXPLOSION_RADIUS * 2);
+        this.radius = MAX_EXPLOSION_RADIUS;
+    }
+
+    @Override
+    public boolean isInstant() {
+        return true;
+    }
+
+    @Override
+    public boolean reaches(Hitbox target) {
+        return distanceTo(target) <= radius;
+    }
+
+    /**
+     * getDamageTo
+     * The whole damage at the center, falling off to EXPLOSION_FALLOFF less at the edge of the radius.
+     * @param target The entity that was hit.
+     * @return int, the damage.
+     */
+    @Override
+    int getDamageTo(Alive target) {
+        double reach = Math.min(1.0, distanceTo(target.getHitbox()) / Math.max(1, radius));
+        return (int) Math.round(getDamage() * (1.0 - (EXPLOSION_FALLOFF * reach)));
+    }
+
+    /**
+     * distanceTo
+     * The distance from the center of the explosion to the closest point of a hitbox, 0 if the center is inside it.
+     * @param target The hitbox.
+     * @return double, the distance.
+     */
+    private double distanceTo(Hitbox target) {
+        Hitbox hitbox = this.getHitbox();
+        double centerX = hitbox.getCenterX();
+        double centerY = hitbox.getCenterY();
+        double distanceX = Math.max(0, Math.max(target.x - centerX, centerX - (target.x + target.width)));
+        double distanceY = Math.max(0, Math.max(target.y - centerY, centerY - (target.y + target.height)));
+        return Math.sqrt((distanceX * distanceX) + (distanceY * distanceY));
+    }
+
+    @Override
+    public long getEffectDuration() {
+        return EXPLOSION_DURATION;
+    }
+
+    /*
+    ==================================================================================
+    getters and setters
+    ==================================================================================
+     */
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public void setRadius(int radius) {
+        this.radius = radius;
+    }
+}
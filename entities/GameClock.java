@@ -0,0 +1,88 @@
+package entities;
+
+/**
+ * [GameClock.java]
+ * The time of the game, counted in ticks and read by every cooldown, invincibility window and timed effect
+ * instead of the system clock. The engine advances it once at the start of every tick, so every read during a
+ * tick sees the same time, reading it costs no system call, and replaying the same ticks gives the same timing.
+ * Times are in milliseconds of game time (ticks times the length of a tick), so durations stay in milliseconds.
+ * Effects that need something to happen when they run out schedule a timer on the clock's timer wheel.
+ * Only the engine thread may advance it or schedule timers once the game is running.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public final class GameClock {
+    public static final long NEVER = Long.MIN_VALUE / 2; // so long ago that every cooldown has run out, without overflowing
+
+    private static final TimerWheel timers = new TimerWheel(0);
+    private static volatile int ticksPerSecond = 20;
+    private static volatile long tick;
+    private static volatile long now;
+
+    private GameClock() {}
+
+    /**
+     * start
+     * Sets how long a tick is, before the game starts.
+     * @param rate The number of ticks per second.
+     */
+    public static void start(int rate) {
+        ticksPerSecond = Math.max(1, rate);
+    }
+
+    /**
+     * advance
+     * Moves the game on by one tick and fires every timer that comes due.
+     */
+    public static void advance() {
+        tick++;
+        now = (tick * 1000L) / ticksPerSecond;
+        timers.advance(tick);
+    }
+
+    /**
+     * schedule
+     * Sets a timer to fire once a duration of game time has passed, rounded up to whole ticks.
+     * @param timer The timer to schedule, moved if it was already scheduled.
+     * @param delay The duration in milliseconds.
+     */
+    public static void schedule(TimerWheel.Timer timer, long delay) {
+        timers.schedule(timer, toTicks(delay));
+    }
+
+    /**
+     * scheduleTicks
+     * Sets a timer to fire once a number of ticks has passed, for effects that already know their tick.
+     * @param timer The timer to schedule, moved if it was already scheduled.
+     * @param ticks The number of ticks from now, at least 1.
+     */
+    public static void scheduleTicks(TimerWheel.Timer timer, long ticks) {
+        timers.schedule(timer, ticks);
+    }
+
+    /**
+     * toTicks
+     * Converts a duration of game time into ticks, rounded up.
+     * @param duration The duration in milliseconds.
+     * @return long, the number of ticks.
+     */
+    public static long toTicks(long duration) {
+        return ((duration * ticksPerSecond) + 999L) / 1000L;
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public static long now() {
+        return now;
+    }
+    public static long getTick() {
+        return tick;
+    }
+    public static TimerWheel getTimers() {
+        return timers;
+    }
+}
@@ -1,79 +1,180 @@
-package entities;
-import constants.*;
-
-/**
- * [GameObject.java]
- * Represents a basic game object in the game.
- * Provides a foundational structure for game entities, including hitbox and ID management.
- * Includes an inner enum for defining collision types.
- * @author  Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public abstract class GameObject implements PrefixConstants, GameConstants {
-
-    private Hitbox hitbox;
-    private String ID;
-
-    /**
-     * [CollisionType.java]
-     * Enum representing different types of collisions between game objects.
-     * Used for collision handling.
-     */
-    public enum CollisionType {
-        BOTH_INVINCIBLE, FIRST_INVINCIBLE, SECOND_INVINCIBLE, NONE_INVINCIBLE
-    }
-
-    public GameObject() {}
-
-    public GameObject(Hitbox hitbox, String ID) {
-        this.hitbox = hitbox;
-        this.ID = ID;
-    }
-
-    /**
-     * collides
-     * Checks for and categorizes the type of collision with another game object, which will be
-     * used to determine how damage is distributed when a collision occurs.
-     * @param otherObj The other game object involved in the collision.
-     * @return CollisionType, the type of collision that has occurred
-     */
-    public CollisionType collides(GameObject otherObj) {
-        CollisionType collisionType = CollisionType.NONE_INVINCIBLE;
-        long currTime = System.currentTimeMillis();
-
-        if ((this.hitbox.getLastCollided() + INVINCIBILITY_DURATION) > currTime) {
-            collisionType = CollisionType.FIRST_INVINCIBLE;
-        }
-
-        if ((otherObj.hitbox.getLastCollided() + INVINCIBILITY_DURATION) > currTime) {
-            if (collisionType == CollisionType.FIRST_INVINCIBLE) {
-                collisionType = CollisionType.BOTH_INVINCIBLE;
-            } else {
-                collisionType = CollisionType.SECOND_INVINCIBLE;
-            }
-        }
-
-        this.hitbox.setLastCollided(currTime);
-        otherObj.hitbox.setLastCollided(currTime);
-
-        return collisionType;
-    }
-
-    /*
-    ====================================================================
-    getters and setters
-    ====================================================================
-     */
-    public Hitbox getHitbox() {
-        return hitbox;
-    }
-    public String getID() {
-        return ID;
-    }
-    public void setID(String ID) {
-        this.ID = ID;
-    }
-    public String getIDWithoutPrefix() {
-        return (this.getID().split("\\-"))[1];
-    }
-}
+package entities;
+import constants.*;
+
+/**
+ * [GameObject.java]
+ * Represents a basic game object in the game.
+ * Provides a foundational structure for game entities, including hitbox and ID management.
+ * Includes an inner enum for defining collision types.
+ * @author  Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public abstract class GameObject implements PrefixConstants, GameConstants, CollisionConstants {
+
+    private Hitbox hitbox;
+    private String ID; // null until asked for when the ID was set from a prefix and a number
+    private String idPrefix;
+    private int kind;
+    private int number;
+    int category; // the collision category of this object, set by each subclass
+    int collisionMask; // the categories it collides with
+    int broadphaseStamp; // the last SweepAndPrune update this object was part of
+    EntityStore store; // the store holding the state of this object, null while it is on its own
+    int slot;
+
+    /**
+     * [CollisionType.java]
+     * Enum representing different types of collisions between game objects.
+     * Used for collision handling.
+     */
+    public enum CollisionType {
+        BOTH_INVINCIBLE, FIRST_INVINCIBLE, SECOND_INVINCIBLE, NONE_INVINCIBLE
+    }
+
+    public GameObject() {}
+
+    public GameObject(Hitbox hitbox, String ID) {
+        this.hitbox = hitbox;
+        this.setID(ID);
+    }
+
+    /**
+     * parseID
+     * Splits the ID once into its numeric kind (the prefix digits) and number, so the
+     * network code never has to parse strings when sending this object.
+     */
+    private void parseID() {
+        int dash = this.ID.indexOf('-');
+        this.kind = Integer.parseInt(this.ID, 0, dash, 10);
+        this.number = Integer.parseInt(this.ID, dash + 1, this.ID.length(), 10);
+    }
+
+    /**
+     * attach
+     * Moves the state of this object into a slot of a store, subclasses move their own state after calling this.
+     * @param store The store the object was added to.
+     * @param slot The slot it was given.
+     */
+    void attach(EntityStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+        store.kind[slot] = this.kind;
+        this.hitbox.attach(store, slot);
+    }
+
+    /**
+     * detach
+     * Moves the state of this object back out of its store, subclasses move their own state before calling this.
+     */
+    void detach() {
+        this.hitbox.detach();
+        this.store = null;
+    }
+
+    /**
+     * collides
+     * Checks for and categorizes the type of collision with another game object, which will be
+     * used to determine how damage is distributed when a collision occurs.
+     * @param otherObj The other game object involved in the collision.
+     * @return CollisionType, the type of collision that has occurred
+     */
+    public CollisionType collides(GameObject otherObj) {
+        CollisionType collisionType = CollisionType.NONE_INVINCIBLE;
+        long currTime = GameClock.now();
+
+        if ((this.hitbox.getLastCollided() + INVINCIBILITY_DURATION) > currTime) {
+            collisionType = CollisionType.FIRST_INVINCIBLE;
+        }
+
+        if ((otherObj.hitbox.getLastCollided() + INVINCIBILITY_DURATION) > currTime) {
+            if (collisionType == CollisionType.FIRST_INVINCIBLE) {
+                collisionType = CollisionType.BOTH_INVINCIBLE;
+            } else {
+                collisionType = CollisionType.SECOND_INVINCIBLE;
+            }
+        }
+
+        this.hitbox.setLastCollided(currTime);
+        otherObj.hitbox.setLastCollided(currTime);
+
+        return collisionType;
+    }
+
+    /*
+    ====================================================================
+    getters and setters
+    ====================================================================
+     */
+    public Hitbox getHitbox() {
+        return hitbox;
+    }
+    /**
+     * getID
+     * The string ID of this object, built the first time it is asked for after setID(prefix, number).
+     * @return String, the ID, for example "11-0".
+     */
+    public String getID() {
+        if (ID == null) {
+            ID = idPrefix + number;
+        }
+        return ID;
+    }
+    public void setID(String ID) {
+        this.ID = ID;
+        parseID();
+    }
+    public int getKind() {
+        return kind;
+    }
+    public int getCategory() {
+        return category;
+    }
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+    /**
+     * getCollisionGroup
+     * Objects in the same group never collide with each other, NO_COLLISION_GROUP collides with everything.
+     * @return int, the group of this object.
+     */
+    public int getCollisionGroup() {
+        return NO_COLLISION_GROUP;
+    }
+    public int getNumber() {
+        return number;
+    }
+    /**
+     * setID
+     * Sets the ID from a prefix and a number. The kind and number change straight away, the string is only built
+     * if getID is called, so a pooled attack reused by another avatar costs nothing during the tick.
+     * @param prefix The ID prefix of the type of object, such as MELEE_ID_PREFIX.
+     * @param number The number after the prefix.
+     */
+    void setID(String prefix, int number) {
+        int prefixKind = Integer.parseInt(prefix, 0, prefix.indexOf('-'), 10);
+        if ((prefixKind != this.kind) || (number != this.number)) {
+            this.ID = null;
+            this.idPrefix = prefix;
+            this.kind = prefixKind;
+            this.number = number;
+        }
+    }
+    /**
+     * getIDWithoutPrefix
+     * The number of the ID as a string, for display and debugging. Code that needs to tell objects apart
+     * compares getNumber or keeps the handle instead.
+     * @return String, the ID without its prefix.
+     */
+    public String getIDWithoutPrefix() {
+        return String.valueOf(number);
+    }
+    /**
+     * getHandle
+     * The generational handle of this object in its store, which can be kept and resolved later without
+     * keeping the object alive or searching by ID.
+     * @return int, the handle, or HandleAllocator.NONE while the object is not in a store.
+     */
+    public int getHandle() {
+        return (store == null) ? HandleAllocator.NONE : store.handleOf(this);
+    }
+}
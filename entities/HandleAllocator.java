@@ -0,0 +1,157 @@
+package entities;
+
+import java.util.Arrays;
+
+/**
+ * [HandleAllocator.java]
+ * Hands out integer handles made of a slot and a generation. Slots are reused through a free list, and every time
+ * a slot is freed its generation goes up, so a handle kept after its slot was freed no longer matches and can be
+ * told apart from the handle of whatever took the slot next. Slots index plain arrays, so looking up what a handle
+ * refers to is one array read and one comparison instead of a search by ID.
+ * Handles are never negative, so NONE can mark a missing handle.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class HandleAllocator {
+    public static final int NONE = -1;
+    public static final int SLOT_BITS = 20; // room for about a million live slots
+    public static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1; // keeps the sign bit clear
+
+    private int[] generations;
+    private boolean[] used;
+    private int[] freeSlots;
+    private int freeCount;
+    private int slots; // slots handed out so far, free or not
+    private int live;
+
+    /**
+     * Constructor for HandleAllocator.
+     * @param capacity The number of slots to make room for, it grows if needed.
+     */
+    public HandleAllocator(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.generations = new int[capacity];
+        this.used = new boolean[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * allocate
+     * Takes a free slot, or a new one if none is free.
+     * @return int, the handle of the slot.
+     * @throws IllegalStateException If every slot a handle can address is in use.
+     */
+    public int allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slots > SLOT_MASK) {
+                throw new IllegalStateException("Out of handles, " + slots + " slots are in use");
+            }
+            if (slots == generations.length) {
+                generations = Arrays.copyOf(generations, slots * 2);
+                used = Arrays.copyOf(used, slots * 2);
+                freeSlots = Arrays.copyOf(freeSlots, slots * 2);
+            }
+            slot = slots++;
+        }
+        used[slot] = true;
+        live++;
+        return handle(slot, generations[slot]);
+    }
+
+    /**
+     * release
+     * Frees the slot of a handle, making every copy of the handle stale. Releasing a stale handle does nothing.
+     * @param handle The handle to release.
+     */
+    public void release(int handle) {
+        if (!isLive(handle)) {
+            return;
+        }
+        int slot = slotOf(handle);
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        used[slot] = false;
+        freeSlots[freeCount++] = slot;
+        live--;
+    }
+
+    /**
+     * clear
+     * Frees every slot at once, making every handle handed out so far stale.
+     */
+    public void clear() {
+        freeCount = 0;
+        for (int slot = slots - 1; slot >= 0; slot--) {
+            if (used[slot]) {
+                generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+                used[slot] = false;
+            }
+            freeSlots[freeCount++] = slot; // lowest slots come back out first
+        }
+        live = 0;
+    }
+
+    /**
+     * isLive
+     * Checks whether a handle still refers to the slot it was handed out for.
+     * @param handle The handle to check.
+     * @return boolean, true if the slot has not been freed since.
+     */
+    public boolean isLive(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        int slot = slotOf(handle);
+        return (slot < slots) && used[slot] && (generations[slot] == generationOf(handle));
+    }
+
+    /**
+     * handleOf
+     * Builds the current handle of a slot that is in use.
+     * @param slot The slot.
+     * @return int, the handle, or NONE if the slot was never handed out.
+     */
+    public int handleOf(int slot) {
+        return ((slot >= 0) && (slot < slots)) ? handle(slot, generations[slot]) : NONE;
+    }
+
+    private static int handle(int slot, int generation) {
+        return (generation << SLOT_BITS) | slot;
+    }
+
+    /**
+     * slotOf
+     * The slot part of a handle, for indexing the arrays the slot keys.
+     * @param handle The handle.
+     * @return int, the slot.
+     */
+    public static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    /**
+     * generationOf
+     * The generation part of a handle.
+     * @param handle The handle.
+     * @return int, the generation.
+     */
+    public static int generationOf(int handle) {
+        return handle >>> SLOT_BITS;
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getSlots() {
+        return slots;
+    }
+    public int size() {
+        return live;
+    }
+}
@@ -1,96 +1,275 @@
-package entities;
-import java.awt.*;
-import java.awt.geom.Rectangle2D;
-import java.io.Serializable;
-
-/**
- * [Hitbox.java]
- * Represents the physical boundaries of a game object in the game.
- * Extends the Rectangle class and implements Serializable for object serialization.
- * Used for collision detection and positioning of game objects.
- * Includes methods for translating and accessing hitbox properties.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public class Hitbox extends Rectangle implements Serializable{
-    private static final long serialVersionUID = 11001100L;
-    private transient long lastCollided; // transient since we dont need this field to serialize
-
-    /**
-     * Constructor for Hitbox with specific dimensions.
-     * Initializes the hitbox with specified x, y coordinates, width, and length.
-     * @param x The x-coordinate of the hitbox.
-     * @param y The y-coordinate of the hitbox.
-     * @param width The width of the hitbox.
-     * @param length The length of the hitbox.
-     */
-    public Hitbox(int x, int y, int width, int length) {
-        super(x, y, width, length);
-    }
-
-    /**
-     * Constructor for Hitbox with a center point and dimension.
-     * Initializes the hitbox based on a central point and dimension (width and height).
-     * @param center The central point of the hitbox.
-     * @param dimension The dimension (width and height) of the hitbox.
-     */
-    public Hitbox(Vector center, Dimension dimension) {
-        super(center.getIntX(), center.getIntY(), dimension.width, dimension.height);
-    }
-
-    /**
-     * contains
-     * Checks for if a vector is within a hitbox.
-     * @param vector The point to check.
-     * @return The boolean format of if it is within the hitbox.
-     */
-    public boolean contains(Vector vector) {
-        if ((this.contains(vector))) {
-            return true;
-        }
-        return false;
-    }
-
-    /*
-    ====================================================================
-    getters and setters
-    ====================================================================
-     */
-
-    public void translateUsingSpeed(Vector speed) {
-        super.translate(speed.getIntX(), speed.getIntY());
-    }
-    public Rectangle2D getBoundingBox() {
-        return new Rectangle2D.Double(x, y, width, height);
-    }
-    public void setIntX(int x) {
-        this.x = x;
-    }
-    public int getIntX() {
-        return this.x;
-    }
-    public Vector getCenter() {
-        return new Vector(((int) this.getCenterX()), ((int) this.getCenterY()));
-    }
-    public int getIntWidth() {
-        return this.width;
-    }
-    public int getIntHeight() {
-        return this.height;
-    }
-    public void setIntY(int y) {
-        this.y = y;
-    }
-    public int getIntY() {
-        return this.y;
-    }
-    public long getLastCollided() {
-        return lastCollided;
-    }
-    public void setLastCollided(long lastCollided) {
-        this.lastCollided = lastCollided;
-    }
-    public String toString() {
-        return this.getCenter().toString();
-    }
-}
+package entities;
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+
+/**
+ * [Hitbox.java]
+ * Represents the physical boundaries of a game object in the game.
+ * Extends the Rectangle class and implements Serializable for object serialization.
+ * Used for collision detection and positioning of game objects.
+ * Includes methods for translating and accessing hitbox properties.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public class Hitbox extends Rectangle implements Serializable{
+    private static final long serialVersionUID = 11001100L;
+    // the next three are kept in the store instead while the hitbox belongs to an object in one
+    private transient long lastCollided = GameClock.NEVER; // transient since we dont need this field to serialize
+    private transient int previousX; // where the hitbox was at the start of the tick, for swept collisions
+    private transient int previousY;
+    private transient EntityStore store; // set while the hitbox belongs to an object in a store, changes are written to it
+    private transient int slot;
+
+    /**
+     * [Side.java]
+     * Enum representing the side of another hitbox that a moving hitbox ran into.
+     * INSIDE means the two already overlapped at the start of the tick.
+     */
+    public enum Side {
+        TOP, BOTTOM, LEFT, RIGHT, INSIDE
+    }
+
+    /**
+     * Constructor for Hitbox with specific dimensions.
+     * Initializes the hitbox with specified x, y coordinates, width, and length.
+     * @param x The x-coordinate of the hitbox.
+     * @param y The y-coordinate of the hitbox.
+     * @param width The width of the hitbox.
+     * @param length The length of the hitbox.
+     */
+    public Hitbox(int x, int y, int width, int length) {
+        super(x, y, width, length);
+        markPrevious();
+    }
+
+    /**
+     * Constructor for Hitbox with a center point and dimension.
+     * Initializes the hitbox based on a central point and dimension (width and height).
+     * @param center The central point of the hitbox.
+     * @param dimension The dimension (width and height) of the hitbox.
+     */
+    public Hitbox(Vector center, Dimension dimension) {
+        super(center.getIntX(), center.getIntY(), dimension.width, dimension.height);
+        markPrevious();
+    }
+
+    /**
+     * contains
+     * Checks for if a vector is within a hitbox.
+     * @param vector The point to check.
+     * @return The boolean format of if it is within the hitbox.
+     */
+    public boolean contains(Vector vector) {
+        if ((this.contains(vector))) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * attach
+     * Starts writing every change of this hitbox to a slot of a store, and moves where it started the tick and when
+     * it last collided into the store.
+     * @param store The store of the object this hitbox belongs to.
+     * @param slot The slot of the object.
+     */
+    void attach(EntityStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+        store.save(slot, this);
+        store.previousX[slot] = this.previousX;
+        store.previousY[slot] = this.previousY;
+        store.lastCollided[slot] = this.lastCollided;
+    }
+
+    /**
+     * detach
+     * Takes the latest state from the store and stops writing to it.
+     */
+    void detach() {
+        store.load(slot, this);
+        this.previousX = store.previousX[slot];
+        this.previousY = store.previousY[slot];
+        this.lastCollided = store.lastCollided[slot];
+        this.store = null;
+    }
+
+    @Override
+    public void setLocation(int x, int y) {
+        super.setLocation(x, y);
+        if (store != null) {
+            store.save(slot, this);
+        }
+    }
+
+    @Override
+    public void translate(int dx, int dy) {
+        super.translate(dx, dy);
+        if (store != null) {
+            store.save(slot, this);
+        }
+    }
+
+    @Override
+    public void setSize(int width, int height) {
+        super.setSize(width, height);
+        if (store != null) {
+            store.save(slot, this);
+        }
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        if (store != null) {
+            store.save(slot, this);
+        }
+    }
+
+    @Override
+    public Object clone() {
+        Hitbox copy = (Hitbox) super.clone();
+        copy.previousX = this.getPreviousX();
+        copy.previousY = this.getPreviousY();
+        copy.lastCollided = this.getLastCollided();
+        copy.store = null; // a copy is a hitbox of its own, not another view of the same slot
+        return copy;
+    }
+
+    /**
+     * markPrevious
+     * Records the current location as where the hitbox starts this tick, the movement since then is what gets swept.
+     */
+    public void markPrevious() {
+        if (store != null) {
+            store.previousX[slot] = this.x;
+            store.previousY[slot] = this.y;
+        } else {
+            this.previousX = this.x;
+            this.previousY = this.y;
+        }
+    }
+
+    /**
+     * timeOfImpact
+     * Finds when this hitbox first overlapped another during this tick, sweeping both from where they started the
+     * tick to where they are now, so fast objects cannot pass through thin ones between ticks.
+     * @param other The other hitbox, which may also have moved.
+     * @return double, the fraction of the tick (0 to 1) at which they first overlapped, or -1 if they never did.
+     */
+    public double timeOfImpact(Hitbox other) {
+        return StaticBvh.timeOfImpact(this.getPreviousX(), this.getPreviousY(), this.width, this.height,
+                this.getMoveX() - other.getMoveX(), this.getMoveY() - other.getMoveY(),
+                other.getPreviousX(), other.getPreviousY(), other.width, other.height);
+    }
+
+    /**
+     * impactSide
+     * Finds which side of a hitbox that does not move this hitbox ran into during this tick. When it crossed two
+     * sides at once, the side it reached last is the one it actually hit.
+     * @param other The hitbox that was run into.
+     * @return Side, the side of the other hitbox that was hit.
+     */
+    public Side impactSide(Rectangle other) {
+        int moveX = this.getMoveX();
+        int moveY = this.getMoveY();
+        int previousX = this.getPreviousX();
+        int previousY = this.getPreviousY();
+
+        Side sideX = null;
+        double entryX = 0;
+        if ((moveX > 0) && (previousX + this.width <= other.x)) {
+            sideX = Side.LEFT;
+            entryX = (other.x - (previousX + this.width)) / (double) moveX;
+        } else if ((moveX < 0) && (previousX >= other.x + other.width)) {
+            sideX = Side.RIGHT;
+            entryX = (previousX - (other.x + other.width)) / (double) -moveX;
+        }
+
+        Side sideY = null;
+        double entryY = 0;
+        if ((moveY > 0) && (previousY + this.height <= other.y)) {
+            sideY = Side.TOP;
+            entryY = (other.y - (previousY + this.height)) / (double) moveY;
+        } else if ((moveY < 0) && (previousY >= other.y + other.height)) {
+            sideY = Side.BOTTOM;
+            entryY = (previousY - (other.y + other.height)) / (double) -moveY;
+        }
+
+        if (sideX == null) {
+            return (sideY == null) ? Side.INSIDE : sideY;
+        } else if (sideY == null) {
+            return sideX;
+        }
+        return (entryY >= entryX) ? sideY : sideX;
+    }
+
+    /**
+     * moveToImpact
+     * Moves the hitbox back along its path to where it was at a point during this tick.
+     * @param impact The fraction of the tick (0 to 1), usually from timeOfImpact.
+     */
+    public void moveToImpact(double impact) {
+        this.setLocation(this.getPreviousX() + (int) (this.getMoveX() * impact), this.getPreviousY() + (int) (this.getMoveY() * impact));
+    }
+
+    /*
+    ====================================================================
+    getters and setters
+    ====================================================================
+     */
+
+    public void translateUsingSpeed(Vector speed) {
+        this.translate(speed.getIntX(), speed.getIntY());
+    }
+    public Rectangle2D getBoundingBox() {
+        return new Rectangle2D.Double(x, y, width, height);
+    }
+    public void setIntX(int x) {
+        this.setLocation(x, this.y);
+    }
+    public int getIntX() {
+        return this.x;
+    }
+    public Vector getCenter() {
+        return new Vector(((int) this.getCenterX()), ((int) this.getCenterY()));
+    }
+    public int getIntWidth() {
+        return this.width;
+    }
+    public int getIntHeight() {
+        return this.height;
+    }
+    public void setIntY(int y) {
+        this.setLocation(this.x, y);
+    }
+    public int getIntY() {
+        return this.y;
+    }
+    public int getPreviousX() {
+        return (store == null) ? previousX : store.previousX[slot];
+    }
+    public int getPreviousY() {
+        return (store == null) ? previousY : store.previousY[slot];
+    }
+    public int getMoveX() {
+        return this.x - this.getPreviousX();
+    }
+    public int getMoveY() {
+        return this.y - this.getPreviousY();
+    }
+    public long getLastCollided() {
+        return (store == null) ? lastCollided : store.lastCollided[slot];
+    }
+    public void setLastCollided(long lastCollided) {
+        if (store != null) {
+            store.lastCollided[slot] = lastCollided;
+        } else {
+            this.lastCollided = lastCollided;
+        }
+    }
+    public String toString() {
+        return this.getCenter().toString();
+    }
+}
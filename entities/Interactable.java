@@ -1,22 +1,50 @@
-package entities;
-
-/**
- * [Interactable.java]
- * Represents a generic interactable object in the game.
- * Extends the GameObject class, providing basic properties for an object that can be interacted with.
- * This class serves as a base for more specific interactable objects like walls or hazards.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public class Interactable extends GameObject {
-
-    /**
-     * Constructor for Interactable.
-     * Initializes an interactable object with a specified hitbox and ID.
-     * @param hitbox The hitbox representing the area of the interactable object.
-     * @param ID The unique identifier for this interactable object.
-     */
-    public Interactable(Hitbox hitbox, String ID) {
-        super(hitbox, ID);
-    }
-}
+package entities;
+
+/**
+ * [Interactable.java]
+ * Represents a generic interactable object in the game.
+ * Extends the GameObject class, providing basic properties for an object that can be interacted with.
+ * This class serves as a base for more specific interactable objects like walls or hazards.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public class Interactable extends GameObject {
+
+    int triggerIndex = -1; // where TriggerVolumes keeps this trigger, -1 for walls
+
+    {
+        category = CATEGORY_STATIC;
+        collisionMask = STATIC_MASK;
+    }
+
+    /**
+     * Constructor for Interactable.
+     * Initializes an interactable object with a specified hitbox and ID.
+     * @param hitbox The hitbox representing the area of the interactable object.
+     * @param ID The unique identifier for this interactable object.
+     */
+    public Interactable(Hitbox hitbox, String ID) {
+        super(hitbox, ID);
+    }
+
+    /**
+     * onEnter
+     * Called on the tick an avatar or enemy starts touching this trigger. Walls are solid and never get it.
+     * @param alive The avatar or enemy.
+     */
+    public void onEnter(Alive alive) {}
+
+    /**
+     * onStay
+     * Called on every later tick the avatar or enemy is still touching this trigger.
+     * @param alive The avatar or enemy.
+     */
+    public void onStay(Alive alive) {}
+
+    /**
+     * onExit
+     * Called on the first tick the avatar or enemy no longer touches this trigger.
+     * @param alive The avatar or enemy.
+     */
+    public void onExit(Alive alive) {}
+}
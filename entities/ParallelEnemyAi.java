@@ -0,0 +1,107 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [ParallelEnemyAi.java]
+ * Lets every enemy think on a fork/join pool. Enemies are split into runs of the list they come from, and each
+ * worker looks around for its enemies in a WorldView and lets them decide what to do. Thinking only reads the view
+ * and writes the enemy doing it, so the decisions do not depend on how the enemies were split or in what order the
+ * runs finished. The engine then lets them act one at a time.
+ * Small games are run on the calling thread, where splitting them would cost more than it saves.
+ * Only one thread may use an instance at a time.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class ParallelEnemyAi {
+    private final ForkJoinPool pool; // null when running single threaded
+    private final Worker[] workers;
+    private final RecursiveAction runAll;
+    private final int threshold;
+    private final int sightRadius;
+    // what the workers are currently thinking about
+    private List<? extends Enemy> enemies;
+    private WorldView world;
+
+    /**
+     * Constructor for ParallelEnemyAi.
+     * @param pool The pool to think on, null thinks on the calling thread.
+     * @param threshold The fewest enemies worth splitting across threads.
+     * @param sightRadius How far around itself an enemy looks.
+     */
+    public ParallelEnemyAi(ForkJoinPool pool, int threshold, int sightRadius) {
+        int parallelism = (pool != null) ? pool.getParallelism() : 1;
+        this.pool = pool;
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker();
+        }
+        this.runAll = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(workers);
+            }
+        };
+        this.threshold = Math.max(1, threshold);
+        this.sightRadius = sightRadius;
+    }
+
+    /**
+     * think
+     * Lets every enemy decide what to do this tick, followed by act on each of them on the calling thread.
+     * @param enemies The enemies in the game.
+     * @param world The view they look around in, captured this tick.
+     */
+    public void think(List<? extends Enemy> enemies, WorldView world) {
+        this.enemies = enemies;
+        this.world = world;
+        int count = enemies.size();
+        if ((pool == null) || (count < threshold)) {
+            workers[0].assign(0, count);
+            workers[0].think();
+        } else {
+            for (int i = 0; i < workers.length; i++) {
+                workers[i].assign((int) ((long) count * i / workers.length), (int) ((long) count * (i + 1) / workers.length));
+                workers[i].reinitialize();
+            }
+            runAll.reinitialize();
+            pool.invoke(runAll);
+        }
+        this.enemies = null;
+        this.world = null;
+    }
+
+    /**
+     * [Worker.java]
+     * Thinks for one run of enemies, with its own list to look around in.
+     */
+    @SuppressWarnings("serial")
+    private class Worker extends RecursiveAction {
+        private int from;
+        private int to;
+        private final ArrayList<GameObject> proximity = new ArrayList<>();
+
+        private void assign(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            think();
+        }
+
+        private void think() {
+            for (int i = from; i < to; i++) {
+                Enemy enemy = enemies.get(i);
+                world.nearby(enemy, sightRadius, proximity);
+                enemy.think(proximity);
+            }
+            proximity.clear();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [ParallelNarrowphase.java]
+ * Runs the swept collision tests of a tick on a fork/join pool. The pairs of the broadphase are split into runs of
+ * neighbouring pairs (the broadphase sorts by x, so each run covers a strip of the map) and the moving objects into
+ * runs of the list they come from. Every worker only reads hitboxes and writes what it found into a buffer of its
+ * own, and the buffers are merged in the order of the runs, so the contacts come out exactly as a single thread
+ * would have found them. The engine then applies the damage, knockback and corrections itself in that order,
+ * since those change health, invincibility and positions that later collisions of the same tick read.
+ * Small workloads are run on the calling thread, where splitting them would cost more than it saves.
+ * Only one thread may use an instance at a time.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class ParallelNarrowphase {
+    private static final int PAIRS = 0;
+    private static final int SWEEPS = 1;
+
+    private final ForkJoinPool pool; // null when running single threaded, shared with whatever else the owner runs on it
+    private final Worker[] workers;
+    private final RecursiveAction runAll;
+    private final int threshold;
+    // what the workers are currently checking
+    private int mode;
+    private SweepAndPrune broadphase;
+    private List<? extends GameObject> movers;
+    private StaticBvh map;
+    private Class<? extends GameObject> type;
+    // the merged results
+    private int[] contacts; // pairs of the broadphase that collide, in order
+    private int contactCount;
+    private GameObject[] hits; // what each mover hit, grouped by mover and sorted by time of impact
+    private double[] impacts;
+    private int[] hitStart;
+    private int[] hitCount;
+
+    /**
+     * Constructor for ParallelNarrowphase.
+     * @param pool The pool to check collisions on, null checks everything on the calling thread.
+     * @param threshold The fewest pairs or moving objects worth splitting across threads.
+     */
+    public ParallelNarrowphase(ForkJoinPool pool, int threshold) {
+        int parallelism = (pool != null) ? pool.getParallelism() : 1;
+        this.pool = pool;
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker();
+        }
+        this.runAll = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(workers);
+            }
+        };
+        this.threshold = Math.max(1, threshold);
+        this.contacts = new int[16];
+        this.hits = new GameObject[16];
+        this.impacts = new double[16];
+        this.hitStart = new int[16];
+        this.hitCount = new int[16];
+    }
+
+    /**
+     * findContacts
+     * Checks every pair found by the last update of the broadphase with a swept test and keeps the ones whose paths
+     * really overlapped this tick, before a projectile of the pair landed on a wall. Positions must not change until
+     * the contacts have been used.
+     * @param broadphase The broadphase, after findPairs.
+     * @return int, the number of contacts, read with getContact.
+     */
+    public int findContacts(SweepAndPrune broadphase) {
+        this.mode = PAIRS;
+        this.broadphase = broadphase;
+        run(broadphase.getPairCount());
+        this.broadphase = null;
+
+        contactCount = 0;
+        for (Worker worker : workers) {
+            if (contactCount + worker.contactCount > contacts.length) {
+                contacts = Arrays.copyOf(contacts, Math.max(contactCount + worker.contactCount, contacts.length * 2));
+            }
+            System.arraycopy(worker.contacts, 0, contacts, contactCount, worker.contactCount);
+            contactCount += worker.contactCount;
+        }
+        return contactCount;
+    }
+
+    /**
+     * sweepStatic
+     * Finds what each moving object passed through this tick in a map that does not move, sorted by when the object
+     * reached it, read with getHitCount and getHit.
+     * @param movers The moving objects, indexed the same way by getHitCount and getHit.
+     * @param map The objects that do not move.
+     * @param type Only objects of this class (or a subclass) whose category is in the mask of the mover are reported.
+     */
+    public void sweepStatic(List<? extends GameObject> movers, StaticBvh map, Class<? extends GameObject> type) {
+        this.mode = SWEEPS;
+        this.movers = movers;
+        this.map = map;
+        this.type = type;
+        int count = movers.size();
+        if (count > hitStart.length) {
+            hitStart = new int[Math.max(count, hitStart.length * 2)];
+            hitCount = new int[hitStart.length];
+        }
+        run(count);
+        this.movers = null;
+        this.map = null;
+
+        int total = 0;
+        for (Worker worker : workers) {
+            if (total + worker.hitTotal > hits.length) {
+                int capacity = Math.max(total + worker.hitTotal, hits.length * 2);
+                hits = Arrays.copyOf(hits, capacity);
+                impacts = Arrays.copyOf(impacts, capacity);
+            }
+            System.arraycopy(worker.hits, 0, hits, total, worker.hitTotal);
+            System.arraycopy(worker.impacts, 0, impacts, total, worker.hitTotal);
+            Arrays.fill(worker.hits, 0, worker.hitTotal, null);
+            for (int i = worker.from; i < worker.to; i++) {
+                hitStart[i] = total + worker.hitStart[i - worker.from];
+                hitCount[i] = worker.hitCount[i - worker.from];
+            }
+            total += worker.hitTotal;
+        }
+        Arrays.fill(hits, total, hits.length, null);
+    }
+
+    /**
+     * run
+     * Splits the work into one contiguous run per worker and waits for all of them, or does it all here if there is little.
+     * @param count The number of pairs or moving objects.
+     */
+    private void run(int count) {
+        if ((pool == null) || (count < threshold)) {
+            workers[0].assign(0, count);
+            workers[0].check();
+            for (int i = 1; i < workers.length; i++) {
+                workers[i].assign(count, count);
+            }
+            return;
+        }
+        for (int i = 0; i < workers.length; i++) {
+            workers[i].assign((int) ((long) count * i / workers.length), (int) ((long) count * (i + 1) / workers.length));
+            workers[i].reinitialize();
+        }
+        runAll.reinitialize();
+        pool.invoke(runAll);
+    }
+
+    /**
+     * reachOf
+     * How much of its path this tick an object really travels. A projectile that lands this tick still moved its
+     * whole speed, but it stopped at the wall, so whatever it only reached later is behind the wall.
+     * @param object The object of a pair.
+     * @return double, the fraction of the tick (0 to 1) until which it can be hit.
+     */
+    private static double reachOf(GameObject object) {
+        if (object instanceof Attacks) {
+            Attacks attack = (Attacks) object;
+            if (attack.hasLanded() && (attack.getLandingTime() >= 0)) {
+                return attack.getLandingTime();
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * [Worker.java]
+     * Checks one run of pairs or moving objects and keeps what it found until the next run.
+     */
+    @SuppressWarnings("serial")
+    private class Worker extends RecursiveAction {
+        private int from;
+        private int to;
+        private int[] contacts = new int[16];
+        private int contactCount;
+        private GameObject[] hits = new GameObject[16];
+        private double[] impacts = new double[16];
+        private int[] hitStart = new int[16]; // relative to from
+        private int[] hitCount = new int[16];
+        private int hitTotal;
+        private final ArrayList<GameObject> found = new ArrayList<>();
+        private final int[] stack = new int[StaticBvh.QUERY_STACK_SIZE];
+
+        private void assign(int from, int to) {
+            this.from = from;
+            this.to = to;
+            this.contactCount = 0;
+            this.hitTotal = 0;
+        }
+
+        @Override
+        protected void compute() {
+            check();
+        }
+
+        private void check() {
+            if (mode == PAIRS) {
+                checkPairs();
+            } else {
+                checkSweeps();
+            }
+        }
+
+        private void checkPairs() {
+            for (int pair = from; pair < to; pair++) {
+                double impact = broadphase.getFirstHitbox(pair).timeOfImpact(broadphase.getSecondHitbox(pair));
+                if ((impact >= 0) && (impact <= reachOf(broadphase.getFirst(pair)))
+                        && (impact <= reachOf(broadphase.getSecond(pair)))) {
+                    if (contactCount == contacts.length) {
+                        contacts = Arrays.copyOf(contacts, contactCount * 2);
+                    }
+                    contacts[contactCount++] = pair;
+                }
+            }
+        }
+
+        private void checkSweeps() {
+            if (to - from > hitStart.length) {
+                hitStart = new int[Math.max(to - from, hitStart.length * 2)];
+                hitCount = new int[hitStart.length];
+            }
+            for (int i = from; i < to; i++) {
+                Hitbox hitbox = movers.get(i).getHitbox();
+                found.clear();
+                int mask = movers.get(i).collisionMask;
+                int count = map.querySwept(hitbox, type, found, stack);
+                if (hitTotal + count > hits.length) {
+                    int capacity = Math.max(hitTotal + count, hits.length * 2);
+                    hits = Arrays.copyOf(hits, capacity);
+                    impacts = Arrays.copyOf(impacts, capacity);
+                }
+                int start = hitTotal;
+                int kept = 0;
+                // insertion sort by time of impact, there are rarely more than two or three
+                for (int k = 0; k < count; k++) {
+                    GameObject hit = found.get(k);
+                    if ((hit.category & mask) == 0) {
+                        continue;
+                    }
+                    double impact = hitbox.timeOfImpact(hit.getHitbox());
+                    int j = start + kept - 1;
+                    while ((j >= start) && (impacts[j] > impact)) {
+                        impacts[j + 1] = impacts[j];
+                        hits[j + 1] = hits[j];
+                        j--;
+                    }
+                    impacts[j + 1] = impact;
+                    hits[j + 1] = hit;
+                    kept++;
+                }
+                hitStart[i - from] = start;
+                hitCount[i - from] = kept;
+                hitTotal += kept;
+            }
+            found.clear();
+        }
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getContact(int contact) {
+        return contacts[contact];
+    }
+    public int getHitCount(int mover) {
+        return hitCount[mover];
+    }
+    public GameObject getHit(int mover, int hit) {
+        return hits[hitStart[mover] + hit];
+    }
+    public double getImpact(int mover, int hit) {
+        return impacts[hitStart[mover] + hit];
+    }
+    public boolean isParallel() {
+        return pool != null;
+    }
+}
@@ -1,101 +1,248 @@
-package entities;
-
-import entities.Vector.Direction;
-import java.awt.*;
-
-/**
- * [Projectile.java]
- * This abstract class represents a projectile in the game.
- * It extends the Attacks class, providing common functionality for projectile-based attacks,
- * including speed and direction handling.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public abstract class Projectile extends Attacks {
-    private Vector speed;
-
-    /**
-     * Constructor for Projectile.
-     * Initializes a projectile attack with a specified hitbox, ID, speed, and damage.
-     * @param hitbox The hitbox representing the projectile's area.
-     * @param ID The unique identifier for this projectile.
-     * @param speed The speed and direction of the projectile.
-     * @param damage The damage value of the projectile.
-     */
-    public Projectile(Hitbox hitbox, String ID, Vector speed, int damage) {
-        super(hitbox, ID, damage);
-        this.speed = speed;
-    }
-
-    /**
-     * update
-     * Abstract method that needs to be implemented in subclasses to define projectile behavior per frame.
-     */
-    public abstract void update();
-
-    /**
-     * calculateProjectileSpeed
-     * Calculates the speed vector for a projectile based on its origin and target points.
-     * @param origin The starting point of the projectile.
-     * @param target The target point of the projectile.
-     * @return Vector, the speed vector for the projectile.
-     */
-    public static Vector calculateProjectileSpeed(Vector origin, Vector target) {
-        // calculate direction vector components
-        double speedX = target.getIntX() - origin.getIntX();
-        double speedY = target.getIntY() - origin.getIntY();
-        if ((speedX == 0) || (speedY == 0)) {
-            return new Vector();
-        }
-
-        double magnitude = Math.sqrt(speedX * speedX + speedY * speedY); // calculate magnitude of the direction
-        // scale to the constant speed
-        int xSpeed = (int) (speedX / magnitude * MAX_BULLET_SPEED.getIntX());
-        int ySpeed = (int) (speedY / magnitude * MAX_BULLET_SPEED.getIntX());
-
-        return new Vector(xSpeed, ySpeed);
-    }
-
-    /**
-     * addBloom
-     * Adjusts the speed vector of the projectile to simulate bloom (inaccuracy).
-     * @param speed The original speed vector of the projectile.
-     * @return Vector, the adjusted speed vector with bloom applied.
-     */
-    public static Vector addBloom(Vector speed) {
-        double angleAdjustment = Math.random() * BULLET_BLOOM; // bloom amount
-
-        // Apply the adjustment to the current vector
-        double newX = speed.getIntX() * Math.cos(angleAdjustment) - speed.getIntY() * Math.sin(angleAdjustment);
-        double newY = speed.getIntX() * Math.sin(angleAdjustment) + speed.getIntY() * Math.cos(angleAdjustment);
-
-        speed.setIntX((int) newX);
-        speed.setIntY((int) newY);
-
-        return speed;
-    }
-
-    /**
-     * getDirection
-     * Retrieves the direction of the projectile based on its speed.
-     * @return Direction, the direction the projectile is moving in.
-     */
-    public Direction getDirection() {
-        if (this.speed.getIntX() >= 0) {
-            return Vector.Direction.RIGHT;
-        } else {
-            return Vector.Direction.LEFT;
-        }
-    }
-
-    /**
-     * getSpeed
-     * Retrieves the current speed vector of the projectile.
-     * @return Vector, the current speed of the projectile.
-     */
-    public Vector getSpeed() {
-        return speed;
-    }
-
-
-}
+package entities;
+
+import entities.Vector.Direction;
+import java.awt.*;
+
+/**
+ * [Projectile.java]
+ * This abstract class represents a projectile in the game.
+ * It extends the Attacks class, providing common functionality for projectile-based attacks,
+ * including speed and direction handling.
+ * Walls never move, so when a projectile is fired its whole flight is worked out against them at once and a timer
+ * of the game clock is set for the tick it lands. Until then it is only ever checked against moving objects.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public abstract class Projectile extends Attacks {
+    private Vector speed;
+    private Vector storedSpeed; // the view of the speed in the store, while this projectile is in one
+    private boolean landed;
+    private double landingTime; // when during the tick it lands it reaches a wall, -1 if it leaves the map instead
+    private final TimerWheel.Timer landing = new TimerWheel.Timer() {
+        @Override
+        protected void expire() {
+            landed = true;
+        }
+    };
+
+    /**
+     * Constructor for Projectile.
+     * Initializes a projectile attack with a specified hitbox, ID, speed, and damage.
+     * @param hitbox The hitbox representing the projectile's area.
+     * @param ID The unique identifier for this projectile.
+     * @param speed The speed and direction of the projectile.
+     * @param damage The damage value of the projectile.
+     */
+    public Projectile(Hitbox hitbox, String ID, Vector speed, int damage) {
+        super(hitbox, ID, damage);
+        this.speed = speed;
+    }
+
+    @Override
+    void attach(EntityStore store, int slot) {
+        super.attach(store, slot);
+        store.speedX[slot] = this.speed.getIntX();
+        store.speedY[slot] = this.speed.getIntY();
+        store.flags[slot] |= EntityStore.FLAG_PROJECTILE;
+        this.storedSpeed = store.speedOf(slot);
+    }
+
+    @Override
+    void detach() {
+        this.speed.setIntX(store.speedX[slot]); // the vector is owned by this projectile, so it can be reused
+        this.speed.setIntY(store.speedY[slot]);
+        this.storedSpeed = null;
+        super.detach();
+    }
+
+    /**
+     * castAgainst
+     * Follows the flight of the projectile tick by tick, moving and falling the way the entity store moves it, until
+     * its path reaches a wall or it has left the map in a direction it can never come back from, and sets the timer
+     * for that tick. A projectile that does not move at all lands on the tick it is fired. It must be called on the
+     * tick the projectile is fired, before it first moves.
+     * @param walls The walls of the map.
+     */
+    @Override
+    public void castAgainst(StaticBvh walls) {
+        stopLanding();
+        if (walls.size() == 0) {
+            return; // nothing to land on or leave
+        }
+        Hitbox hitbox = this.getHitbox();
+        int x = hitbox.x;
+        int y = hitbox.y;
+        int speedX = this.getSpeed().getIntX();
+        int speedY = this.getSpeed().getIntY();
+        int drop = this.getDrop();
+        if ((speedX == 0) && (speedY == 0) && (drop == 0)) {
+            // it would sit where it is forever, so it only gets this tick to hit whatever it already touches
+            landIn(1, (walls.firstImpact(x, y, hitbox.width, hitbox.height, 0, 0, collisionMask) >= 0) ? 0 : -1);
+            return;
+        }
+        for (int ticks = 1; ticks <= MAX_FLIGHT_TICKS; ticks++) {
+            double impact = walls.firstImpact(x, y, hitbox.width, hitbox.height, speedX, speedY, collisionMask);
+            if (impact >= 0) {
+                landIn(ticks, impact);
+                return;
+            }
+            x += speedX;
+            y += speedY;
+            speedY += drop;
+            boolean gone = (((x + hitbox.width) <= walls.getMinX()) && (speedX <= 0))
+                    || ((x >= walls.getMaxX()) && (speedX >= 0))
+                    || ((y >= walls.getMaxY()) && (speedY >= 0) && (drop >= 0))
+                    || (((y + hitbox.height) <= walls.getMinY()) && (speedY <= 0) && (drop <= 0));
+            if (gone) {
+                landIn(ticks, -1);
+                return;
+            }
+        }
+        landIn(MAX_FLIGHT_TICKS, -1);
+    }
+
+    /**
+     * landIn
+     * Sets the projectile to land during the movement of a later tick, the first movement being the one of this tick.
+     * @param ticks Which movement it lands during, from 1.
+     * @param time When during that movement it reaches a wall, -1 if it leaves the map instead.
+     */
+    private void landIn(int ticks, double time) {
+        this.landingTime = time;
+        if (ticks <= 1) {
+            this.landed = true; // the timers of this tick already fired
+        } else {
+            GameClock.scheduleTicks(landing, ticks - 1);
+        }
+    }
+
+    /**
+     * stopLanding
+     * Cancels the landing of a projectile that is removed early, so a reused projectile is not landed by its old timer.
+     */
+    void stopLanding() {
+        landing.cancel();
+        this.landed = false;
+        this.landingTime = -1;
+    }
+
+    @Override
+    public boolean hasLanded() {
+        return landed;
+    }
+
+    @Override
+    public double getLandingTime() {
+        return landingTime;
+    }
+
+    /**
+     * getDrop
+     * How much the speed of the projectile grows downwards every tick.
+     * @return int, the drop, 0 for projectiles that fly straight.
+     */
+    int getDrop() {
+        return 0;
+    }
+
+    /**
+     * getKnockbackSpeed
+     * A projectile pushes what it hits along its flight, harder than being pushed away.
+     * @param target The entity that was hit.
+     * @return int, the horizontal speed of the projectile.
+     */
+    @Override
+    int getKnockbackSpeed(Alive target) {
+        return this.getSpeed().getIntX();
+    }
+
+    /**
+     * resetSpeed
+     * Stops a reused projectile, its new speed is set through getSpeed.
+     */
+    void resetSpeed() {
+        this.getSpeed().setIntX(0);
+        this.getSpeed().setIntY(0);
+    }
+
+    /**
+     * calculateProjectileSpeed
+     * Calculates the speed vector for a projectile based on its origin and target points.
+     * @param origin The starting point of the projectile.
+     * @param target The target point of the projectile.
+     * @return Vector, the speed vector for the projectile.
+     */
+    public static Vector calculateProjectileSpeed(Vector origin, Vector target) {
+        return calculateProjectileSpeed(origin.getIntX(), origin.getIntY(), target.getIntX(), target.getIntY(), new Vector());
+    }
+
+    /**
+     * calculateProjectileSpeed
+     * Calculates the speed vector for a projectile based on its origin and target points, into an existing vector.
+     * @param originX The x the projectile starts at.
+     * @param originY The y the projectile starts at.
+     * @param targetX The x it is fired towards.
+     * @param targetY The y it is fired towards.
+     * @param speed The vector the speed is written to.
+     * @return Vector, the same speed vector.
+     */
+    public static Vector calculateProjectileSpeed(int originX, int originY, int targetX, int targetY, Vector speed) {
+        // calculate direction vector components
+        double speedX = targetX - originX;
+        double speedY = targetY - originY;
+        if ((speedX == 0) && (speedY == 0)) { // fired at itself, there is no direction to scale
+            speed.setIntX(0);
+            speed.setIntY(0);
+            return speed;
+        }
+
+        double magnitude = Math.sqrt(speedX * speedX + speedY * speedY); // calculate magnitude of the direction
+        // scale to the constant speed
+        speed.setIntX((int) (speedX / magnitude * MAX_BULLET_SPEED.getIntX()));
+        speed.setIntY((int) (speedY / magnitude * MAX_BULLET_SPEED.getIntX()));
+        return speed;
+    }
+
+    /**
+     * addBloom
+     * Adjusts the speed vector of the projectile to simulate bloom (inaccuracy).
+     * @param speed The original speed vector of the projectile.
+     * @return Vector, the adjusted speed vector with bloom applied.
+     */
+    public static Vector addBloom(Vector speed) {
+        double angleAdjustment = Math.random() * BULLET_BLOOM; // bloom amount
+
+        // Apply the adjustment to the current vector
+        double newX = speed.getIntX() * Math.cos(angleAdjustment) - speed.getIntY() * Math.sin(angleAdjustment);
+        double newY = speed.getIntX() * Math.sin(angleAdjustment) + speed.getIntY() * Math.cos(angleAdjustment);
+
+        speed.setIntX((int) newX);
+        speed.setIntY((int) newY);
+
+        return speed;
+    }
+
+    /**
+     * getDirection
+     * Retrieves the direction of the projectile based on its speed.
+     * @return Direction, the direction the projectile is moving in.
+     */
+    public Direction getDirection() {
+        if (this.getSpeed().getIntX() >= 0) {
+            return Vector.Direction.RIGHT;
+        } else {
+            return Vector.Direction.LEFT;
+        }
+    }
+
+    /**
+     * getSpeed
+     * Retrieves the current speed vector of the projectile.
+     * @return Vector, the current speed of the projectile.
+     */
+    public Vector getSpeed() {
+        return (store == null) ? speed : storedSpeed;
+    }
+
+
+}
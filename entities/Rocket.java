@@ -1,41 +1,46 @@
-package entities;
-
-/**
- * [Rocket.java]
- * Represents a rocket projectile in the game.
- * It extends the Projectile class and includes functionality to start an explosion.
- * @author Dilen De Silva
- * @version 1.0, January 22, 2024
- */
-public class Rocket extends Projectile{
-
-    /**
-     * Constructor for Rocket.
-     * Initializes a rocket with specified hitbox, ID, damage, and speed.
-     * @param ID The unique identifier for this rocket.
-     * @param hitbox The hitbox representing the rocket's area.
-     * @param damage The damage value of the rocket.
-     * @param speed The speed and direction of the rocket.
-     */
-    public Rocket(String ID, Hitbox hitbox, int damage, Vector speed) {
-        super(hitbox, ID, speed, damage);
-    }
-
-    /**
-     * startExplosion
-     * Initiates an explosion at the rocket's current location.
-     * @return Explosion, the explosion created by the rocket.
-     */
-    public Explosion startExplosion() {
-        return (new Explosion((EXPLOSION_ID_PREFIX + this.getCreatorID()), this.getHitbox().getCenter(), getDamage()));
-    }
-
-    /**
-     * update
-     * Updates the position of the rocket each frame.
-     */
-    @Override
-    public void update() {
-        this.getHitbox().translateUsingSpeed(this.getSpeed());
-    }
-}
+package entities;
+
+/**
+ * [Rocket.java]
+ * Represents a rocket projectile in the game.
+ * It extends the Projectile class and includes functionality to start an explosion.
+ * @author Dilen De Silva
+ * @version 1.0, January 22, 2024
+ */
+public class Rocket extends Projectile{
+
+    /**
+     * Constructor for Rocket.
+     * Initializes a rocket with specified hitbox, ID, damage, and speed.
+     * @param ID The unique identifier for this rocket.
+     * @param hitbox The hitbox representing the rocket's area.
+     * @param damage The damage value of the rocket.
+     * @param speed The speed and direction of the rocket.
+     */
+    public Rocket(String ID, Hitbox hitbox, int damage, Vector speed) {
+        super(hitbox, ID, speed, damage);
+    }
+
+    /**
+     * Constructor for a blank Rocket, only used by AttackPools before resetting it.
+     */
+    Rocket() {
+        this(ROCKET_ID_PREFIX + 0, new Hitbox(0, 0, 0, 0), 0, new Vector());
+    }
+
+    /**
+     * startExplosion
+     * Initiates an explosion at the rocket's current location, reusing a released explosion if there is one.
+     * @param pools The pools of the game.
+     * @return Explosion, the explosion created by the rocket.
+     */
+    public Explosion startExplosion(AttackPools pools) {
+        Hitbox hitbox = this.getHitbox();
+        return pools.acquireExplosion(getOwner(), (int) hitbox.getCenterX(), (int) hitbox.getCenterY(), getDamage());
+    }
+
+    @Override
+    public Attacks impact(AttackPools pools) {
+        return startExplosion(pools);
+    }
+}
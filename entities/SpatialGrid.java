@@ -0,0 +1,183 @@
+package entities;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * [SpatialGrid.java]
+ * A uniform grid spatial hash of game object hitboxes, used to find the objects near a point or overlapping a box
+ * without looking at every object in the game. Every object is recorded in each cell its hitbox covers, cells are
+ * hashed into a fixed number of buckets and the buckets are chained through flat int arrays, so rebuilding the grid
+ * every tick does not allocate once it has grown to fit the game.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class SpatialGrid implements SpatialIndex {
+    private final int cellSize;
+    private final int[] bucketHeads; // first entry of each bucket, -1 when empty
+    private final int bucketMask;
+    private int[] entryObject; // index into objects
+    private int[] entryNext; // next entry in the same bucket, -1 at the end
+    private int entryCount;
+    private GameObject[] objects;
+    private int[] stamps; // the last query that reported each object, so objects in several cells are reported once
+    private int objectCount;
+    private int queryStamp;
+
+    /**
+     * Constructor for SpatialGrid.
+     * @param cellSize The width and height of a cell, about the size of the larger objects works best.
+     * @param buckets The number of hash buckets, rounded up to a power of two.
+     */
+    public SpatialGrid(int cellSize, int buckets) {
+        this.cellSize = cellSize;
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.bucketHeads = new int[size];
+        this.bucketMask = size - 1;
+        this.entryObject = new int[64];
+        this.entryNext = new int[64];
+        this.objects = new GameObject[32];
+        this.stamps = new int[32];
+        Arrays.fill(bucketHeads, -1);
+    }
+
+    /**
+     * clear
+     * Removes every object so the grid can be rebuilt.
+     */
+    public void clear() {
+        Arrays.fill(bucketHeads, -1);
+        Arrays.fill(objects, 0, objectCount, null);
+        entryCount = 0;
+        objectCount = 0;
+    }
+
+    /**
+     * insert
+     * Records an object in every cell its hitbox currently covers.
+     * @param object The object to add.
+     */
+    public void insert(GameObject object) {
+        if (objectCount == objects.length) {
+            objects = Arrays.copyOf(objects, objectCount * 2);
+            stamps = Arrays.copyOf(stamps, objectCount * 2);
+        }
+        int index = objectCount++;
+        objects[index] = object;
+        stamps[index] = queryStamp;
+
+        Hitbox hitbox = object.getHitbox();
+        int minCellX = cell(hitbox.x);
+        int minCellY = cell(hitbox.y);
+        int maxCellX = cell(hitbox.x + hitbox.width);
+        int maxCellY = cell(hitbox.y + hitbox.height);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                if (entryCount == entryObject.length) {
+                    entryObject = Arrays.copyOf(entryObject, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                int bucket = bucket(cellX, cellY);
+                entryObject[entryCount] = index;
+                entryNext[entryCount] = bucketHeads[bucket];
+                bucketHeads[bucket] = entryCount;
+                entryCount++;
+            }
+        }
+    }
+
+    /**
+     * queryBox
+     * Finds the objects of a type whose hitboxes overlap a box.
+     * @param x The x of the box.
+     * @param y The y of the box.
+     * @param width The width of the box.
+     * @param height The height of the box.
+     * @param type Only objects of this class (or a subclass) are reported, GameObject.class for all of them.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int queryBox(int x, int y, int width, int height, Class<T> type, List<? super T> result) {
+        int stamp = nextStamp();
+        int added = 0;
+        for (int cellX = cell(x); cellX <= cell(x + width); cellX++) {
+            for (int cellY = cell(y); cellY <= cell(y + height); cellY++) {
+                for (int entry = bucketHeads[bucket(cellX, cellY)]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryObject[entry];
+                    if (stamps[index] == stamp) {
+                        continue;
+                    }
+                    Hitbox hitbox = objects[index].getHitbox();
+                    // buckets are shared by distant cells, so the hitbox itself still has to be checked
+                    if ((hitbox.x < x + width) && (x < hitbox.x + hitbox.width)
+                            && (hitbox.y < y + height) && (y < hitbox.y + hitbox.height)
+                            && type.isInstance(objects[index])) {
+                        stamps[index] = stamp;
+                        result.add(type.cast(objects[index]));
+                        added++;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public <T> int queryBox(Rectangle box, Class<T> type, List<? super T> result) {
+        return queryBox(box.x, box.y, box.width, box.height, type, result);
+    }
+
+    @Override
+    public <T> int queryRadius(int centerX, int centerY, int radius, Class<T> type, List<? super T> result) {
+        int stamp = nextStamp();
+        int added = 0;
+        long radiusSquared = (long) radius * radius;
+        for (int cellX = cell(centerX - radius); cellX <= cell(centerX + radius); cellX++) {
+            for (int cellY = cell(centerY - radius); cellY <= cell(centerY + radius); cellY++) {
+                for (int entry = bucketHeads[bucket(cellX, cellY)]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryObject[entry];
+                    if (stamps[index] == stamp) {
+                        continue;
+                    }
+                    Hitbox hitbox = objects[index].getHitbox();
+                    // distance from the point to the closest point of the hitbox
+                    long distanceX = Math.max(0, Math.max(hitbox.x - centerX, centerX - (hitbox.x + hitbox.width)));
+                    long distanceY = Math.max(0, Math.max(hitbox.y - centerY, centerY - (hitbox.y + hitbox.height)));
+                    if ((distanceX * distanceX) + (distanceY * distanceY) <= radiusSquared && type.isInstance(objects[index])) {
+                        stamps[index] = stamp;
+                        result.add(type.cast(objects[index]));
+                        added++;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    private int nextStamp() {
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int cell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private int bucket(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & bucketMask;
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int size() {
+        return objectCount;
+    }
+}
@@ -0,0 +1,36 @@
+package entities;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * [SpatialIndex.java]
+ * A structure that can find game objects by where their hitboxes are, without checking every object.
+ * Implemented by the SpatialGrid used for moving objects and the StaticBvh used for the map.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public interface SpatialIndex {
+
+    /**
+     * queryBox
+     * Finds the objects of a type whose hitboxes overlap a rectangle.
+     * @param box The rectangle to check, usually the hitbox of another object.
+     * @param type Only objects of this class (or a subclass) are reported, GameObject.class for all of them.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    <T> int queryBox(Rectangle box, Class<T> type, List<? super T> result);
+
+    /**
+     * queryRadius
+     * Finds the objects of a type with any part of their hitbox within a radius of a point.
+     * @param centerX The x of the point.
+     * @param centerY The y of the point.
+     * @param radius The radius around the point.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    <T> int queryRadius(int centerX, int centerY, int radius, Class<T> type, List<? super T> result);
+}
@@ -0,0 +1,360 @@
+package entities;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * [StaticBvh.java]
+ * A bounding volume hierarchy over objects that never move, such as the walls, hazards and power-ups of the map.
+ * It is built once when the map is loaded by splitting the objects in half along the longer side of their bounds
+ * until a handful are left in each leaf. Nodes are stored depth first in flat arrays (the left child directly
+ * follows its parent) so a query only walks the branches whose bounds it touches, about O(log n) per query.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class StaticBvh implements SpatialIndex {
+    private static final int LEAF_SIZE = 4;
+    private static final int MAX_DEPTH = 64;
+    public static final int QUERY_STACK_SIZE = MAX_DEPTH * 2; // the stack a query needs, see querySwept
+
+    private final GameObject[] objects; // reordered so every leaf covers a contiguous range
+    private final int[] nodeMinX;
+    private final int[] nodeMinY;
+    private final int[] nodeMaxX;
+    private final int[] nodeMaxY;
+    private final int[] nodeRight; // index of the right child, the left child is always the next node
+    private final int[] nodeStart; // first object of a leaf
+    private final int[] nodeCount; // number of objects of a leaf, 0 for inner nodes
+    private final int[] stack;
+    private int nodes;
+
+    /**
+     * Constructor for StaticBvh.
+     * Builds the hierarchy over the current hitboxes of the objects, which must not move afterwards.
+     * @param staticObjects The objects to index.
+     */
+    public StaticBvh(List<? extends GameObject> staticObjects) {
+        this.objects = staticObjects.toArray(new GameObject[0]);
+        int capacity = Math.max(1, 2 * objects.length);
+        this.nodeMinX = new int[capacity];
+        this.nodeMinY = new int[capacity];
+        this.nodeMaxX = new int[capacity];
+        this.nodeMaxY = new int[capacity];
+        this.nodeRight = new int[capacity];
+        this.nodeStart = new int[capacity];
+        this.nodeCount = new int[capacity];
+        this.stack = new int[QUERY_STACK_SIZE];
+        if (objects.length > 0) {
+            build(0, objects.length, 0);
+        }
+    }
+
+    /**
+     * build
+     * Creates the node covering a range of objects and, unless the range is small enough, its two children.
+     * @param start The first object of the range.
+     * @param end One past the last object of the range.
+     * @param depth How deep the node is, splitting stops at MAX_DEPTH.
+     * @return int, the index of the node.
+     */
+    private int build(int start, int end, int depth) {
+        int node = nodes++;
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = start; i < end; i++) {
+            Hitbox hitbox = objects[i].getHitbox();
+            minX = Math.min(minX, hitbox.x);
+            minY = Math.min(minY, hitbox.y);
+            maxX = Math.max(maxX, hitbox.x + hitbox.width);
+            maxY = Math.max(maxY, hitbox.y + hitbox.height);
+        }
+        nodeMinX[node] = minX;
+        nodeMinY[node] = minY;
+        nodeMaxX[node] = maxX;
+        nodeMaxY[node] = maxY;
+
+        if ((end - start <= LEAF_SIZE) || (depth >= MAX_DEPTH - 1)) {
+            nodeStart[node] = start;
+            nodeCount[node] = end - start;
+            return node;
+        }
+
+        // split at the median of the object centers along the longer side
+        Comparator<GameObject> byCenter;
+        if (maxX - minX >= maxY - minY) {
+            byCenter = Comparator.comparingInt(object -> (2 * object.getHitbox().x) + object.getHitbox().width);
+        } else {
+            byCenter = Comparator.comparingInt(object -> (2 * object.getHitbox().y) + object.getHitbox().height);
+        }
+        Arrays.sort(objects, start, end, byCenter);
+        int middle = (start + end) >>> 1;
+        build(start, middle, depth + 1);
+        nodeRight[node] = build(middle, end, depth + 1);
+        nodeCount[node] = 0;
+        return node;
+    }
+
+    @Override
+    public <T> int queryBox(Rectangle box, Class<T> type, List<? super T> result) {
+        return querySwept(box, 0, 0, type, result);
+    }
+
+    @Override
+    public <T> int queryRadius(int centerX, int centerY, int radius, Class<T> type, List<? super T> result) {
+        return queryRadius(centerX, centerY, radius, type, result, stack);
+    }
+
+    /**
+     * queryRadius
+     * The same query as the SpatialIndex one, walking the hierarchy with a stack of the caller so several threads can query at once.
+     * @param centerX The x of the center.
+     * @param centerY The y of the center.
+     * @param radius The radius around the center.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @param stack Scratch space of at least QUERY_STACK_SIZE, only used by one thread at a time.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int queryRadius(int centerX, int centerY, int radius, Class<T> type, List<? super T> result, int[] stack) {
+        if (nodes == 0) {
+            return 0;
+        }
+        int added = 0;
+        long radiusSquared = (long) radius * radius;
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (distanceSquared(centerX, centerY, nodeMinX[node], nodeMinY[node], nodeMaxX[node], nodeMaxY[node]) > radiusSquared) {
+                continue;
+            }
+            if (nodeCount[node] > 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++) {
+                    Hitbox hitbox = objects[i].getHitbox();
+                    if ((distanceSquared(centerX, centerY, hitbox.x, hitbox.y, hitbox.x + hitbox.width, hitbox.y + hitbox.height) <= radiusSquared)
+                            && type.isInstance(objects[i])) {
+                        result.add(type.cast(objects[i]));
+                        added++;
+                    }
+                }
+            } else {
+                stack[top++] = nodeRight[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * querySwept
+     * Finds the objects of a type that a box would overlap at any point while moving in a straight line.
+     * With no movement this is a plain overlap query.
+     * @param box The box at the start of its movement, usually the hitbox of a moving object.
+     * @param moveX How far the box moves along x.
+     * @param moveY How far the box moves along y.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int querySwept(Rectangle box, int moveX, int moveY, Class<T> type, List<? super T> result) {
+        return sweep(box.x, box.y, box.width, box.height, moveX, moveY, type, result, stack);
+    }
+
+    /**
+     * querySwept
+     * Finds the objects of a type that a hitbox passed through this tick, from where it started the tick to where it is now.
+     * @param hitbox The hitbox of a moving object.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int querySwept(Hitbox hitbox, Class<T> type, List<? super T> result) {
+        return querySwept(hitbox, type, result, stack);
+    }
+
+    /**
+     * querySwept
+     * The same query, walking the hierarchy with a stack of the caller so several threads can query at once.
+     * @param hitbox The hitbox of a moving object.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @param stack Scratch space of at least QUERY_STACK_SIZE, only used by one thread at a time.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int querySwept(Hitbox hitbox, Class<T> type, List<? super T> result, int[] stack) {
+        return sweep(hitbox.getPreviousX(), hitbox.getPreviousY(), hitbox.width, hitbox.height, hitbox.getMoveX(), hitbox.getMoveY(), type, result, stack);
+    }
+
+    /**
+     * queryRay
+     * Finds the objects of a type crossed by a line segment, for example a line of sight.
+     * @param startX The x the segment starts at.
+     * @param startY The y the segment starts at.
+     * @param moveX The length of the segment along x.
+     * @param moveY The length of the segment along y.
+     * @param type Only objects of this class (or a subclass) are reported.
+     * @param result The list the objects are added to.
+     * @return int, the number of objects added to the result.
+     */
+    public <T> int queryRay(int startX, int startY, int moveX, int moveY, Class<T> type, List<? super T> result) {
+        return sweep(startX, startY, 0, 0, moveX, moveY, type, result, stack);
+    }
+
+    /**
+     * firstImpact
+     * Finds when a moving box first overlaps any object whose category is in a mask, without collecting the objects.
+     * Nodes the box reaches no earlier than the closest impact found so far are skipped.
+     * @param x The x of the box at the start.
+     * @param y The y of the box at the start.
+     * @param width The width of the box.
+     * @param height The height of the box.
+     * @param moveX How far the box moves along x.
+     * @param moveY How far the box moves along y.
+     * @param mask The categories that stop the box.
+     * @return double, the fraction of the movement (0 to 1) at which it first overlaps one, or -1 if it never does.
+     */
+    public double firstImpact(int x, int y, int width, int height, int moveX, int moveY, int mask) {
+        if (nodes == 0) {
+            return -1;
+        }
+        double first = -1;
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            double reached = timeOfImpact(x, y, width, height, moveX, moveY,
+                    nodeMinX[node], nodeMinY[node], nodeMaxX[node] - nodeMinX[node], nodeMaxY[node] - nodeMinY[node]);
+            if ((reached < 0) || ((first >= 0) && (reached >= first))) {
+                continue;
+            }
+            if (nodeCount[node] > 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++) {
+                    if ((objects[i].category & mask) == 0) {
+                        continue;
+                    }
+                    Hitbox hitbox = objects[i].getHitbox();
+                    double impact = timeOfImpact(x, y, width, height, moveX, moveY, hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+                    if ((impact >= 0) && ((first < 0) || (impact < first))) {
+                        first = impact;
+                    }
+                }
+            } else {
+                stack[top++] = nodeRight[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return first;
+    }
+
+    private <T> int sweep(int x, int y, int width, int height, int moveX, int moveY, Class<T> type, List<? super T> result, int[] stack) {
+        if (nodes == 0) {
+            return 0;
+        }
+        int added = 0;
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (timeOfImpact(x, y, width, height, moveX, moveY,
+                    nodeMinX[node], nodeMinY[node], nodeMaxX[node] - nodeMinX[node], nodeMaxY[node] - nodeMinY[node]) < 0) {
+                continue;
+            }
+            if (nodeCount[node] > 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++) {
+                    Hitbox hitbox = objects[i].getHitbox();
+                    if ((timeOfImpact(x, y, width, height, moveX, moveY, hitbox.x, hitbox.y, hitbox.width, hitbox.height) >= 0)
+                            && type.isInstance(objects[i])) {
+                        result.add(type.cast(objects[i]));
+                        added++;
+                    }
+                }
+            } else {
+                stack[top++] = nodeRight[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * timeOfImpact
+     * Finds when a box moving in a straight line first overlaps another box, using the slab method on the
+     * target grown by the size of the moving box. Boxes that only touch edges do not overlap, like Rectangle.intersects.
+     * @param x The x of the moving box at the start.
+     * @param y The y of the moving box at the start.
+     * @param width The width of the moving box.
+     * @param height The height of the moving box.
+     * @param moveX How far the box moves along x.
+     * @param moveY How far the box moves along y.
+     * @param targetX The x of the target box.
+     * @param targetY The y of the target box.
+     * @param targetWidth The width of the target box.
+     * @param targetHeight The height of the target box.
+     * @return double, the fraction of the movement (0 to 1) at which they first overlap, or -1 if they never do.
+     */
+    public static double timeOfImpact(int x, int y, int width, int height, int moveX, int moveY,
+                                      int targetX, int targetY, int targetWidth, int targetHeight) {
+        double enter = 0;
+        double exit = 1;
+
+        double slabMin = targetX - width;
+        double slabMax = targetX + targetWidth;
+        if (moveX == 0) {
+            if ((x <= slabMin) || (x >= slabMax)) {
+                return -1;
+            }
+        } else {
+            double first = (slabMin - x) / moveX;
+            double second = (slabMax - x) / moveX;
+            enter = Math.max(enter, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        slabMin = targetY - height;
+        slabMax = targetY + targetHeight;
+        if (moveY == 0) {
+            if ((y <= slabMin) || (y >= slabMax)) {
+                return -1;
+            }
+        } else {
+            double first = (slabMin - y) / moveY;
+            double second = (slabMax - y) / moveY;
+            enter = Math.max(enter, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        return (enter < exit) ? enter : -1;
+    }
+
+    private static long distanceSquared(int pointX, int pointY, int minX, int minY, int maxX, int maxY) {
+        long distanceX = Math.max(0, Math.max(minX - pointX, pointX - maxX));
+        long distanceY = Math.max(0, Math.max(minY - pointY, pointY - maxY));
+        return (distanceX * distanceX) + (distanceY * distanceY);
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getMinX() {
+        return nodeMinX[0];
+    }
+    public int getMinY() {
+        return nodeMinY[0];
+    }
+    public int getMaxX() {
+        return nodeMaxX[0];
+    }
+    public int getMaxY() {
+        return nodeMaxY[0];
+    }
+    public int size() {
+        return objects.length;
+    }
+}
@@ -0,0 +1,208 @@
+package entities;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * [SweepAndPrune.java]
+ * The broadphase for moving objects. Keeps every avatar, enemy and attack in an array sorted by the left edge of
+ * its hitbox and sweeps it once per tick to find the pairs whose hitboxes overlap. Objects barely move between
+ * ticks, so the order of the previous tick is kept and fixed with an insertion sort, which is close to linear when
+ * the array is already nearly sorted. Pairs that can never collide, because neither category is in the mask of the
+ * other or both share a collision group, are dropped while sweeping, so only pairs that matter reach the narrowphase.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class SweepAndPrune {
+    private GameObject[] objects; // sorted by minX as of the last update
+    private Hitbox[] hitboxes; // the hitbox of each object, read once per update so other threads can check pairs
+    private int[] minX;
+    private int[] maxX;
+    private int[] minY;
+    private int[] maxY;
+    private int[] category; // the collision category, mask and group of each object, read once per update
+    private int[] mask;
+    private int[] group;
+    private int count;
+    private int stamp; // objects included in the current update carry this stamp
+    private int[] pairFirst;
+    private int[] pairSecond;
+    private int pairCount;
+
+    /**
+     * Constructor for SweepAndPrune.
+     * There should only be one per game, since objects remember the last update they were part of.
+     * @param capacity The number of objects to make room for, it grows if needed.
+     */
+    public SweepAndPrune(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.objects = new GameObject[capacity];
+        this.hitboxes = new Hitbox[capacity];
+        this.minX = new int[capacity];
+        this.maxX = new int[capacity];
+        this.minY = new int[capacity];
+        this.maxY = new int[capacity];
+        this.category = new int[capacity];
+        this.mask = new int[capacity];
+        this.group = new int[capacity];
+        this.pairFirst = new int[capacity];
+        this.pairSecond = new int[capacity];
+        this.stamp = 1; // a new object has stamp 0, which never looks like it was in the previous update
+    }
+
+    /**
+     * beginUpdate
+     * Starts a new tick, followed by include for every group of moving objects and then findPairs.
+     */
+    public void beginUpdate() {
+        stamp++;
+    }
+
+    /**
+     * include
+     * Adds a group of objects to this tick. Objects that were there last tick keep their place in the sorted order,
+     * new ones are appended and sorted into place by findPairs.
+     * @param group The objects to include.
+     */
+    public void include(List<? extends GameObject> group) {
+        for (int i = 0; i < group.size(); i++) {
+            GameObject object = group.get(i);
+            if ((object.broadphaseStamp != stamp - 1) && (object.broadphaseStamp != stamp)) {
+                if (count == objects.length) {
+                    grow();
+                }
+                objects[count++] = object;
+            }
+            object.broadphaseStamp = stamp;
+        }
+    }
+
+    /**
+     * findPairs
+     * Drops the objects that were not included this tick, sorts the rest by the area their hitboxes swept this tick
+     * and records every pair whose swept areas overlap and that can collide.
+     * @return int, the number of pairs found.
+     */
+    public int findPairs() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            GameObject object = objects[i];
+            if (object.broadphaseStamp == stamp) {
+                Hitbox hitbox = object.getHitbox();
+                objects[kept] = object;
+                hitboxes[kept] = hitbox;
+                // the bounds cover the whole path of the object this tick, so fast objects still find each other
+                minX[kept] = Math.min(hitbox.x, hitbox.getPreviousX());
+                maxX[kept] = Math.max(hitbox.x, hitbox.getPreviousX()) + hitbox.width;
+                minY[kept] = Math.min(hitbox.y, hitbox.getPreviousY());
+                maxY[kept] = Math.max(hitbox.y, hitbox.getPreviousY()) + hitbox.height;
+                category[kept] = object.category;
+                mask[kept] = object.collisionMask;
+                group[kept] = object.getCollisionGroup();
+                kept++;
+            }
+        }
+        Arrays.fill(objects, kept, count, null);
+        Arrays.fill(hitboxes, kept, count, null);
+        count = kept;
+
+        insertionSort();
+
+        pairCount = 0;
+        for (int i = 0; i < count; i++) {
+            // every object that starts before this one ends is a candidate, the rest of the array starts even later
+            for (int j = i + 1; (j < count) && (minX[j] < maxX[i]); j++) {
+                // masks are symmetric, so one side of the category test is enough
+                if (((category[i] & mask[j]) != 0) && ((group[i] == GameObject.NO_COLLISION_GROUP) || (group[i] != group[j]))
+                        && (minY[j] < maxY[i]) && (minY[i] < maxY[j])) {
+                    if (pairCount == pairFirst.length) {
+                        pairFirst = Arrays.copyOf(pairFirst, pairCount * 2);
+                        pairSecond = Arrays.copyOf(pairSecond, pairCount * 2);
+                    }
+                    pairFirst[pairCount] = i;
+                    pairSecond[pairCount] = j;
+                    pairCount++;
+                }
+            }
+        }
+        return pairCount;
+    }
+
+    /**
+     * insertionSort
+     * Sorts the objects by minX, moving each one left past the ones that now start after it.
+     */
+    private void insertionSort() {
+        for (int i = 1; i < count; i++) {
+            GameObject object = objects[i];
+            Hitbox hitbox = hitboxes[i];
+            int objectMinX = minX[i];
+            int objectMaxX = maxX[i];
+            int objectMinY = minY[i];
+            int objectMaxY = maxY[i];
+            int objectCategory = category[i];
+            int objectMask = mask[i];
+            int objectGroup = group[i];
+            int j = i - 1;
+            while ((j >= 0) && (minX[j] > objectMinX)) {
+                objects[j + 1] = objects[j];
+                hitboxes[j + 1] = hitboxes[j];
+                minX[j + 1] = minX[j];
+                maxX[j + 1] = maxX[j];
+                minY[j + 1] = minY[j];
+                maxY[j + 1] = maxY[j];
+                category[j + 1] = category[j];
+                mask[j + 1] = mask[j];
+                group[j + 1] = group[j];
+                j--;
+            }
+            objects[j + 1] = object;
+            hitboxes[j + 1] = hitbox;
+            minX[j + 1] = objectMinX;
+            maxX[j + 1] = objectMaxX;
+            minY[j + 1] = objectMinY;
+            maxY[j + 1] = objectMaxY;
+            category[j + 1] = objectCategory;
+            mask[j + 1] = objectMask;
+            group[j + 1] = objectGroup;
+        }
+    }
+
+    private void grow() {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        hitboxes = Arrays.copyOf(hitboxes, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        category = Arrays.copyOf(category, capacity);
+        mask = Arrays.copyOf(mask, capacity);
+        group = Arrays.copyOf(group, capacity);
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getPairCount() {
+        return pairCount;
+    }
+    public GameObject getFirst(int pair) {
+        return objects[pairFirst[pair]];
+    }
+    public GameObject getSecond(int pair) {
+        return objects[pairSecond[pair]];
+    }
+    public Hitbox getFirstHitbox(int pair) {
+        return hitboxes[pairFirst[pair]];
+    }
+    public Hitbox getSecondHitbox(int pair) {
+        return hitboxes[pairSecond[pair]];
+    }
+    public int size() {
+        return count;
+    }
+}
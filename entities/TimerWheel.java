@@ -0,0 +1,166 @@
+package entities;
+
+/**
+ * [TimerWheel.java]
+ * A hierarchical timing wheel counted in ticks. Each level is a ring of 64 slots, the first holding timers due in
+ * the next 64 ticks, the next holding 64 ticks per slot, and so on. Scheduling and cancelling a timer is O(1), and
+ * advancing a tick only fires the timers of one slot, moving the timers of a higher slot down a level every time the
+ * level below wraps around, so every timer moves at most once per level before it fires. Timers are intrusive: the
+ * effect that owns a timer keeps it and reschedules it, so scheduling never allocates.
+ * Only one thread may use a wheel.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE = 1L << (SLOT_BITS * LEVELS); // ticks the levels cover, later timers wait in the last slot
+
+    private final Timer[] slots; // head of the list of each slot, level after level
+    private long tick;
+    private int scheduled;
+
+    /**
+     * Constructor for TimerWheel.
+     * @param tick The tick the wheel starts at.
+     */
+    public TimerWheel(long tick) {
+        this.slots = new Timer[SLOTS * LEVELS];
+        this.tick = tick;
+    }
+
+    /**
+     * schedule
+     * Sets a timer to fire a number of ticks from now, moving it if it was already scheduled.
+     * @param timer The timer to schedule.
+     * @param delay The number of ticks from now, at least 1.
+     */
+    public void schedule(Timer timer, long delay) {
+        timer.cancel();
+        timer.deadline = tick + Math.max(1, delay);
+        timer.wheel = this;
+        insert(timer);
+        scheduled++;
+    }
+
+    /**
+     * advance
+     * Moves the wheel forward one tick at a time up to a tick, firing every timer that comes due on the way.
+     * Timers may be scheduled and cancelled from inside expire.
+     * @param toTick The tick to move to.
+     */
+    public void advance(long toTick) {
+        while (tick < toTick) {
+            tick++;
+            // bring the timers of the next slot of each higher level down whenever the level below wraps around
+            for (int level = 1; level < LEVELS; level++) {
+                if (((tick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                    break;
+                }
+                cascade((level * SLOTS) + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+            int slot = (int) (tick & SLOT_MASK);
+            Timer timer;
+            while ((timer = slots[slot]) != null) {
+                unlink(timer);
+                timer.expire();
+            }
+        }
+    }
+
+    private void cascade(int slot) {
+        Timer timer = slots[slot];
+        slots[slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.next = null;
+            timer.prev = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long due = Math.min(timer.deadline, tick + RANGE - 1);
+        long delta = due - tick;
+        int level = 0;
+        while ((level < LEVELS - 1) && (delta >= (1L << (SLOT_BITS * (level + 1))))) {
+            level++;
+        }
+        int slot = (level * SLOTS) + (int) ((due >>> (SLOT_BITS * level)) & SLOT_MASK);
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].prev = timer;
+        }
+        slots[slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.next = null;
+        timer.prev = null;
+        timer.slot = -1;
+        timer.wheel = null;
+        scheduled--;
+    }
+
+    /**
+     * [Timer.java]
+     * Something that happens a number of ticks after it is scheduled, such as an attack running out or a
+     * power-up coming back. Subclasses say what happens in expire.
+     */
+    public abstract static class Timer {
+        private Timer next;
+        private Timer prev;
+        private int slot = -1;
+        private long deadline;
+        private TimerWheel wheel; // null while not scheduled
+
+        /**
+         * expire
+         * Called by the wheel on the tick the timer comes due, after it has been unscheduled.
+         */
+        protected abstract void expire();
+
+        /**
+         * cancel
+         * Unschedules the timer if it is scheduled, otherwise does nothing.
+         */
+        public void cancel() {
+            if (wheel != null) {
+                wheel.unlink(this);
+            }
+        }
+
+        public boolean isScheduled() {
+            return wheel != null;
+        }
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public long getTick() {
+        return tick;
+    }
+    public int getScheduled() {
+        return scheduled;
+    }
+}
@@ -0,0 +1,132 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * [TriggerVolumes.java]
+ * Keeps track of which avatars and enemies touch which hazards and power-ups, and turns the changes into events.
+ * Triggers never move, so they get a hierarchy of their own and each mover only looks up the few triggers its path
+ * crossed this tick. Every pair found is recorded as one key (the handle of the mover and the index of the trigger),
+ * the keys are sorted and merged with the keys of the last tick: a key only found now is an enter, a key found both
+ * times is a stay and a key only found last tick is an exit. The work of a tick grows with the number of movers
+ * actually touching a trigger, not with every mover against every trigger.
+ * Movers must be in the entity store, a mover removed from it since the last tick leaves its triggers without an
+ * exit event. Only the engine thread may use it.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class TriggerVolumes {
+    private static final int TRIGGER_BITS = 32;
+    private static final long TRIGGER_MASK = (1L << TRIGGER_BITS) - 1;
+
+    private final Interactable[] triggers;
+    private final StaticBvh index;
+    private final EntityStore store;
+    private final ArrayList<GameObject> found;
+    private final int[] stack;
+    private long[] touching; // the pairs found this tick, sorted in finish
+    private int touchingCount;
+    private long[] touched; // the pairs of the last tick, sorted
+    private int touchedCount;
+
+    /**
+     * Constructor for TriggerVolumes.
+     * @param triggers The hazards and power-ups of the map, which must not move afterwards.
+     * @param store The store the movers are kept in, used to find a mover again from its handle.
+     */
+    public TriggerVolumes(List<? extends Interactable> triggers, EntityStore store) {
+        this.triggers = triggers.toArray(new Interactable[0]);
+        for (int i = 0; i < this.triggers.length; i++) {
+            this.triggers[i].triggerIndex = i;
+        }
+        this.index = new StaticBvh(triggers);
+        this.store = store;
+        this.found = new ArrayList<>();
+        this.stack = new int[StaticBvh.QUERY_STACK_SIZE];
+        this.touching = new long[16];
+        this.touched = new long[16];
+    }
+
+    /**
+     * include
+     * Finds the triggers each mover touched on its path this tick, followed by finish once every group is included.
+     * @param movers The avatars or enemies, after they moved and were stopped by walls.
+     */
+    public void include(List<? extends Alive> movers) {
+        for (int i = 0; i < movers.size(); i++) {
+            Alive mover = movers.get(i);
+            int handle = mover.getHandle();
+            if (handle == HandleAllocator.NONE) {
+                continue;
+            }
+            found.clear();
+            int count = index.querySwept(mover.getHitbox(), Interactable.class, found, stack);
+            for (int k = 0; k < count; k++) {
+                Interactable trigger = (Interactable) found.get(k);
+                if ((trigger.collisionMask & mover.category) != 0) {
+                    if (touchingCount == touching.length) {
+                        touching = Arrays.copyOf(touching, touchingCount * 2);
+                    }
+                    touching[touchingCount++] = ((long) handle << TRIGGER_BITS) | trigger.triggerIndex;
+                }
+            }
+        }
+        found.clear();
+    }
+
+    /**
+     * finish
+     * Compares the pairs of this tick with the last one and sends the enter, stay and exit events, in key order so
+     * the same ticks always give the same events.
+     */
+    public void finish() {
+        Arrays.sort(touching, 0, touchingCount);
+        int was = 0;
+        int now = 0;
+        while ((was < touchedCount) || (now < touchingCount)) {
+            if ((now == touchingCount) || ((was < touchedCount) && (touched[was] < touching[now]))) {
+                Alive mover = moverOf(touched[was]);
+                if (mover != null) {
+                    triggerOf(touched[was]).onExit(mover);
+                }
+                was++;
+            } else if ((was == touchedCount) || (touched[was] > touching[now])) {
+                triggerOf(touching[now]).onEnter(moverOf(touching[now]));
+                now++;
+            } else {
+                triggerOf(touching[now]).onStay(moverOf(touching[now]));
+                was++;
+                now++;
+            }
+        }
+
+        long[] swap = touched;
+        touched = touching;
+        touchedCount = touchingCount;
+        touching = swap;
+        touchingCount = 0;
+    }
+
+    private Alive moverOf(long pair) {
+        return (Alive) store.resolve((int) (pair >>> TRIGGER_BITS));
+    }
+
+    private Interactable triggerOf(long pair) {
+        return triggers[(int) (pair & TRIGGER_MASK)];
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getTouchingCount() {
+        return touchedCount;
+    }
+    public int size() {
+        return triggers.length;
+    }
+}
@@ -0,0 +1,67 @@
+package entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [WorldView.java]
+ * What enemies can see while they decide what to do: the avatars, where they stood when the view was captured,
+ * and the map. Nothing in it changes until the next capture, so any number of threads can look around
+ * in it at once while the enemies think, as long as nobody moves an avatar until they are done.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class WorldView {
+    private final ArrayList<Avatar> avatars;
+    private StaticBvh map;
+    private final ThreadLocal<int[]> stacks; // the hierarchy needs scratch space per thread
+
+    /**
+     * Constructor for WorldView.
+     */
+    public WorldView() {
+        this.avatars = new ArrayList<>(4);
+        this.stacks = ThreadLocal.withInitial(() -> new int[StaticBvh.QUERY_STACK_SIZE]);
+    }
+
+    /**
+     * capture
+     * Takes the view of the current tick.
+     * @param avatars The avatars in the game.
+     * @param map The walls, hazards and power-ups of the map.
+     */
+    public void capture(List<? extends Avatar> avatars, StaticBvh map) {
+        this.avatars.clear();
+        for (int i = 0; i < avatars.size(); i++) {
+            this.avatars.add(avatars.get(i));
+        }
+        this.map = map;
+    }
+
+    /**
+     * nearby
+     * Finds the avatars and interactables within a radius of the center of an object, avatars first.
+     * @param object The object looking around, only its own thread may be moving it.
+     * @param radius How far it can see.
+     * @param result The list to fill, it is cleared first.
+     */
+    public void nearby(GameObject object, int radius, ArrayList<GameObject> result) {
+        result.clear();
+        Hitbox hitbox = object.getHitbox();
+        int centerX = hitbox.x + (hitbox.width / 2);
+        int centerY = hitbox.y + (hitbox.height / 2);
+        long radiusSquared = (long) radius * radius;
+        for (int i = 0; i < avatars.size(); i++) {
+            Hitbox other = avatars.get(i).getHitbox();
+            // distance from the center to the closest point of the hitbox, as the spatial indexes measure it
+            long distanceX = Math.max(0, Math.max(other.x - centerX, centerX - (other.x + other.width)));
+            long distanceY = Math.max(0, Math.max(other.y - centerY, centerY - (other.y + other.height)));
+            if ((distanceX * distanceX) + (distanceY * distanceY) <= radiusSquared) {
+                result.add(avatars.get(i));
+            }
+        }
+        if (map != null) {
+            map.queryRadius(centerX, centerY, radius, Interactable.class, result, stacks.get());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package networking;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [BufferPool.java]
+ * A pool of equally sized direct buffers used to encode broadcast frames.
+ * Buffers are taken by the broadcaster thread and returned by whichever I/O thread finishes writing them last,
+ * so the free list is a lock-free queue. Frames too large for a pooled buffer get a one-off buffer instead.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class BufferPool {
+    private final int bufferSize;
+    private final int maxIdle;
+    private final Queue<ByteBuffer> idle;
+    private final AtomicInteger idleCount;
+
+    /**
+     * Constructor for BufferPool.
+     * @param bufferSize The capacity of every pooled buffer.
+     * @param maxIdle The most buffers kept around while unused.
+     */
+    public BufferPool(int bufferSize, int maxIdle) {
+        this.bufferSize = bufferSize;
+        this.maxIdle = maxIdle;
+        this.idle = new ConcurrentLinkedQueue<>();
+        this.idleCount = new AtomicInteger(0);
+    }
+
+    /**
+     * acquire
+     * Gets a cleared frame with room for at least the given number of bytes.
+     * @param size The number of bytes that will be encoded.
+     * @return SharedFrame, holding one reference for the caller.
+     */
+    public SharedFrame acquire(int size) {
+        if (size > bufferSize) {
+            return new SharedFrame(ByteBuffer.allocate(size), null);
+        }
+        ByteBuffer buffer = idle.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        } else {
+            idleCount.decrementAndGet();
+            buffer.clear();
+        }
+        return new SharedFrame(buffer, this);
+    }
+
+    /**
+     * recycle
+     * Returns a buffer whose frame is no longer referenced.
+     * @param buffer The buffer to return.
+     */
+    void recycle(ByteBuffer buffer) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.add(buffer);
+        } else {
+            idleCount.decrementAndGet(); // enough spares already, let this one be collected
+        }
+    }
+}
@@ -1,20 +1,20 @@
-package networking.ClientRequestTypes;
-
-import java.io.Serializable;
-
-public class NewAbilityType extends RequestType{
-    private NewAbilitySubtype subType;
-
-    public NewAbilityType(NewAbilitySubtype subType) {
-        this.subType = subType;
-    }
-
-    public enum NewAbilitySubtype implements Subtype, Serializable {
-        JUMP, DASH, LAUNCH;
-    }
-
-    @Override
-    public Subtype getSubtype() {
-        return subType;
-    }
+package networking.ClientRequestTypes;
+
+import java.io.Serializable;
+
+public class NewAbilityType extends RequestType{
+    private NewAbilitySubtype subType;
+
+    public NewAbilityType(NewAbilitySubtype subType) {
+        this.subType = subType;
+    }
+
+    public enum NewAbilitySubtype implements Subtype, Serializable {
+        JUMP, DASH, LAUNCH;
+    }
+
+    @Override
+    public Subtype getSubtype() {
+        return subType;
+    }
 }
\ No newline at end of file
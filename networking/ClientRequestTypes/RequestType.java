@@ -1,9 +1,9 @@
-package networking.ClientRequestTypes;
-
-import java.io.Serializable;
-
-public abstract class RequestType implements Serializable {
-    private static final long serialVersionUID = 123123121;
-    public abstract Subtype getSubtype();
-
-}
+package networking.ClientRequestTypes;
+
+import java.io.Serializable;
+
+public abstract class RequestType implements Serializable {
+    private static final long serialVersionUID = 123123121;
+    public abstract Subtype getSubtype();
+
+}
@@ -1,10 +1,10 @@
-package networking.ClientRequestTypes;
-
-/**
- * Enums implementing this interface represent distinct subtypes of requests, standardizing the processing of
- * various client requests. This approach streamlines the handling of different request types, making it easy
- * to add new types and their behaviors.
- */
-public interface Subtype {
-
-}
+package networking.ClientRequestTypes;
+
+/**
+ * Enums implementing this interface represent distinct subtypes of requests, standardizing the processing of
+ * various client requests. This approach streamlines the handling of different request types, making it easy
+ * to add new types and their behaviors.
+ */
+public interface Subtype {
+
+}
@@ -0,0 +1,64 @@
+package networking;
+
+/**
+ * [Command.java]
+ * A single in-game input from a client, reduced to what the game engine needs to apply it.
+ * Commands are created on the I/O threads and queued for the engine, which applies them at the start of its
+ * next tick, so the game world is only ever changed by the engine thread.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public final class Command {
+    private final CommandType type;
+    private final int client;
+    private final int x;
+    private final int y;
+
+    /**
+     * Constructor for Command.
+     * @param type What the client wants to do.
+     * @param client The handle of the client, which the engine looks its avatar up by.
+     * @param x The x of the mouse for attacks, otherwise the weapon to switch to or 0.
+     * @param y The y of the mouse for attacks, otherwise 0.
+     */
+    public Command(CommandType type, int client, int x, int y) {
+        this.type = type;
+        this.client = client;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * CommandType
+     * Enum of every action a client can take during a match
+     */
+    public enum CommandType {
+        ATTACK,
+        ULTIMATE_ABILITY,
+        JUMP,
+        DASH,
+        LAUNCH,
+        MOVE_RIGHT,
+        MOVE_LEFT,
+        SWITCH_WEAPON
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public CommandType getType() {
+        return type;
+    }
+    public int getClient() {
+        return client;
+    }
+    public int getX() {
+        return x;
+    }
+    public int getY() {
+        return y;
+    }
+}
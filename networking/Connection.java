@@ -0,0 +1,335 @@
+package networking;
+
+import constants.NetworkConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Connection.java]
+ * Represents a single non-blocking client connection owned by one NioTransport I/O thread.
+ * Holds the partially read frame, the queue of outgoing frames and the handshake state.
+ * Any thread may queue frames with send, only the owning I/O thread reads and writes the socket.
+ * The outbound queue is bounded: never more than MAX_QUEUED_FRAMES of any kind are waiting. Once it is full the
+ * OverflowPolicy decides whether stale snapshots are dropped to make room or the connection is closed, and a
+ * connection that cannot drop anything is closed, so the game engine never waits on a slow client.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class Connection implements NetworkConstants {
+    private final SocketChannel channel;
+    private final NioTransport.IoWorker worker;
+    private final long connectedAt;
+    private final Queue<Outbound> outbound;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicInteger queuedFrames;
+    private final AtomicLong droppedFrames;
+    private final AtomicBoolean flushScheduled;
+    private final AtomicBoolean closed;
+    private ByteBuffer readBuffer;
+    private SelectionKey key;
+    private volatile boolean handshaken;
+
+    /**
+     * Constructor for Connection.
+     * @param channel The accepted socket channel, already in non-blocking mode.
+     * @param worker The I/O thread that will own this connection.
+     * @param overflowPolicy What to do when the client falls behind.
+     */
+    Connection(SocketChannel channel, NioTransport.IoWorker worker, OverflowPolicy overflowPolicy) {
+        this.channel = channel;
+        this.worker = worker;
+        this.connectedAt = System.currentTimeMillis();
+        this.outbound = new ConcurrentLinkedQueue<>();
+        this.overflowPolicy = overflowPolicy;
+        this.queuedFrames = new AtomicInteger(0);
+        this.droppedFrames = new AtomicLong(0);
+        this.flushScheduled = new AtomicBoolean(false);
+        this.closed = new AtomicBoolean(false);
+        this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        this.handshaken = false;
+    }
+
+    /**
+     * [OverflowPolicy]
+     * What a connection does once its outbound queue is full.
+     */
+    public enum OverflowPolicy {
+        DROP_STALE_SNAPSHOTS, // throw away snapshots that were never started to make room, close if there are none
+        DISCONNECT // drop nothing, close once the queue is full or the oldest frame has waited MAX_BACKLOG_TIME
+    }
+
+    /**
+     * [Outbound]
+     * A frame waiting in the outbound queue, along with the shared frame it is a view of, if any.
+     * Either the writer claims it before writing the first byte or the producer claims it to drop it, never both.
+     */
+    private static class Outbound {
+        private final ByteBuffer bytes;
+        private final SharedFrame owner;
+        private final boolean snapshot;
+        private final long queuedAt;
+        private final AtomicBoolean claimed;
+        private boolean writing; // only touched by the I/O thread
+
+        Outbound(ByteBuffer bytes, SharedFrame owner, boolean snapshot) {
+            this.bytes = bytes;
+            this.owner = owner;
+            this.snapshot = snapshot;
+            this.queuedAt = System.currentTimeMillis();
+            this.claimed = new AtomicBoolean(false);
+        }
+    }
+
+    /**
+     * send
+     * Queues a frame only meant for this connection. Never blocks the calling thread.
+     * @param frame A frame with its length header, as built by ProtocolCodec.
+     */
+    public void send(ByteBuffer frame) {
+        enqueue(new Outbound(frame, null, false));
+    }
+
+    /**
+     * send
+     * Queues a view of a frame that is being sent to many connections. Never blocks the calling thread.
+     * @param frame The shared frame, which stays referenced until it has been written.
+     */
+    public void send(SharedFrame frame) {
+        frame.retain();
+        enqueue(new Outbound(frame.view(), frame, false));
+    }
+
+    /**
+     * sendSnapshot
+     * Queues a snapshot frame. Unlike other frames a snapshot may be dropped if a newer one replaces it before
+     * it was written, since every snapshot can be rebuilt without the ones before it.
+     * @param frame The shared snapshot frame.
+     */
+    public void sendSnapshot(SharedFrame frame) {
+        frame.retain();
+        enqueue(new Outbound(frame.view(), frame, true));
+    }
+
+    private void enqueue(Outbound frame) {
+        while (!closed.get()) {
+            int queued = queuedFrames.get();
+            if (queued < MAX_QUEUED_FRAMES) {
+                // reserve the place first, so producers on several threads can never overfill the queue
+                if (queuedFrames.compareAndSet(queued, queued + 1)) {
+                    outbound.add(frame);
+                    if (flushScheduled.compareAndSet(false, true)) {
+                        worker.scheduleFlush(this);
+                    }
+                    return;
+                }
+            } else if (!makeRoom(frame)) {
+                break;
+            }
+        }
+        release(frame);
+    }
+
+    /**
+     * makeRoom
+     * Applies the overflow policy when a frame is queued on a full queue.
+     * @param frame The frame about to be queued.
+     * @return boolean, true if room was made and queueing should be tried again, false if the frame is not queued.
+     */
+    private boolean makeRoom(Outbound frame) {
+        if (overflowPolicy == OverflowPolicy.DROP_STALE_SNAPSHOTS) {
+            for (Outbound queued : outbound) {
+                if (queued.snapshot && queued.claimed.compareAndSet(false, true)) {
+                    // the writer skips claimed frames it did not claim itself
+                    queuedFrames.decrementAndGet();
+                    droppedFrames.incrementAndGet();
+                    release(queued);
+                    return true;
+                }
+            }
+            if (frame.snapshot) {
+                droppedFrames.incrementAndGet(); // every snapshot in the queue is being written, the next one replaces this
+                return false;
+            }
+        }
+        System.out.println("Disconnecting " + getRemoteAddress() + ", " + queuedFrames.get() + " frames behind");
+        close();
+        return false;
+    }
+
+    /**
+     * checkBacklog
+     * Closes a connection under the DISCONNECT policy whose oldest queued frame has waited longer than
+     * MAX_BACKLOG_TIME. Called by the I/O thread whenever a flush could not drain the queue and on every pass
+     * of its selector loop, so a stalled client is dropped even if nothing new is queued for it.
+     * @param now The current time in milliseconds.
+     * @return boolean, true if the connection is still backed up and was not closed.
+     */
+    boolean checkBacklog(long now) {
+        Outbound oldest = outbound.peek();
+        if ((oldest == null) || closed.get()) {
+            return false;
+        }
+        if ((overflowPolicy == OverflowPolicy.DISCONNECT) && (now - oldest.queuedAt > MAX_BACKLOG_TIME)) {
+            System.out.println("Disconnecting " + getRemoteAddress() + ", " + queuedFrames.get() + " frames behind");
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    private void release(Outbound frame) {
+        if (frame.owner != null) {
+            frame.owner.release();
+        }
+    }
+
+    /**
+     * close
+     * Closes the socket. Safe to call from any thread and more than once.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            worker.scheduleClose(this);
+        }
+    }
+
+    /**
+     * read
+     * Reads whatever is available on the socket and cuts it into frames.
+     * @param listener The listener complete frames are handed to.
+     * @return boolean, false if the connection should be closed.
+     * @throws IOException If the socket fails.
+     */
+    boolean read(TransportListener listener) throws IOException {
+        if (channel.read(readBuffer) < 0) {
+            return false;
+        }
+        readBuffer.flip();
+
+        while (readBuffer.remaining() >= FRAME_HEADER_SIZE) {
+            int length = readBuffer.getInt(readBuffer.position());
+            if ((length < 0) || (length > MAX_FRAME_SIZE)) {
+                return false;
+            }
+            if (readBuffer.remaining() < FRAME_HEADER_SIZE + length) {
+                // make sure the rest of this frame fits once it arrives
+                if (readBuffer.capacity() < FRAME_HEADER_SIZE + length) {
+                    ByteBuffer larger = ByteBuffer.allocate(FRAME_HEADER_SIZE + length);
+                    larger.put(readBuffer);
+                    readBuffer = larger;
+                    return true;
+                }
+                break;
+            }
+
+            int frameEnd = readBuffer.position() + FRAME_HEADER_SIZE + length;
+            ByteBuffer payload = readBuffer.duplicate();
+            payload.position(readBuffer.position() + FRAME_HEADER_SIZE);
+            payload.limit(frameEnd);
+            readBuffer.position(frameEnd);
+
+            if (!handshaken) {
+                if (!Frames.isHandshake(payload)) {
+                    return false;
+                }
+                handshaken = true;
+                listener.onHandshake(this);
+            } else {
+                listener.onFrame(this, payload);
+            }
+            if (closed.get()) {
+                return false;
+            }
+        }
+        readBuffer.compact();
+        return true;
+    }
+
+    /**
+     * flush
+     * Writes as many queued frames as the socket will currently take.
+     * @return boolean, true if the queue was fully drained.
+     * @throws IOException If the socket fails.
+     */
+    boolean flush() throws IOException {
+        flushScheduled.set(false);
+        Outbound frame;
+        while ((frame = outbound.peek()) != null) {
+            if (!frame.writing) {
+                if (!frame.claimed.compareAndSet(false, true)) {
+                    outbound.poll(); // dropped as stale, already released
+                    continue;
+                }
+                frame.writing = true;
+            }
+            channel.write(frame.bytes);
+            if (frame.bytes.hasRemaining()) {
+                return false;
+            }
+            outbound.poll();
+            queuedFrames.decrementAndGet();
+            release(frame);
+        }
+        return true;
+    }
+
+    /**
+     * discardOutbound
+     * Drops every frame that was never written, once the socket is closed.
+     */
+    void discardOutbound() {
+        Outbound frame;
+        while ((frame = outbound.poll()) != null) {
+            if (frame.writing || frame.claimed.compareAndSet(false, true)) {
+                queuedFrames.decrementAndGet();
+                release(frame);
+            }
+        }
+    }
+
+    /*
+    ====================================================================
+    getters and setters
+    ====================================================================
+     */
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+    SelectionKey getKey() {
+        return key;
+    }
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+    long getConnectedAt() {
+        return connectedAt;
+    }
+    public boolean isHandshaken() {
+        return handshaken;
+    }
+    public boolean isClosed() {
+        return closed.get();
+    }
+    public int getQueuedFrames() {
+        return queuedFrames.get();
+    }
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+    public String getRemoteAddress() {
+        try {
+            return String.valueOf(channel.getRemoteAddress());
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package networking;
+
+import constants.NetworkConstants;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * [Frames.java]
+ * Helper methods for the length-prefixed framing used between the client and the server.
+ * Every frame is a 4 byte big-endian length followed by that many bytes of payload.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public final class Frames implements NetworkConstants {
+
+    private Frames() {}
+
+    /**
+     * handshake
+     * Builds the payload of the first frame a client must send after connecting.
+     * @return byte[], the handshake payload.
+     */
+    public static byte[] handshake() {
+        ByteBuffer hello = ByteBuffer.allocate(8);
+        hello.putInt(HANDSHAKE_MAGIC);
+        hello.putInt(PROTOCOL_VERSION);
+        return hello.array();
+    }
+
+    /**
+     * isHandshake
+     * Checks if a received payload is a valid handshake for this protocol version.
+     * @param payload The payload of the first frame of a connection.
+     * @return boolean, true if the magic number and version both match.
+     */
+    public static boolean isHandshake(ByteBuffer payload) {
+        if (payload.remaining() < 8) {
+            return false;
+        }
+        return (payload.getInt() == HANDSHAKE_MAGIC) && (payload.getInt() == PROTOCOL_VERSION);
+    }
+
+    /**
+     * writeFrame
+     * Writes a single frame to a blocking stream, used on the client side.
+     * @param output The stream connected to the server.
+     * @param payload The bytes to send.
+     * @throws IOException If the stream is closed.
+     */
+    public static void writeFrame(DataOutputStream output, byte[] payload) throws IOException {
+        output.writeInt(payload.length);
+        output.write(payload);
+        output.flush();
+    }
+
+    /**
+     * writeFrame
+     * Writes a frame that already carries its length header to a blocking stream.
+     * @param output The stream connected to the server.
+     * @param frame The frame, as built by ProtocolCodec.
+     * @throws IOException If the stream is closed.
+     */
+    public static void writeFrame(DataOutputStream output, ByteBuffer frame) throws IOException {
+        output.write(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+        output.flush();
+    }
+
+    /**
+     * readFrame
+     * Blocks until a whole frame has been read from a stream, used on the client side.
+     * @param input The stream connected to the server.
+     * @return ByteBuffer, the payload of the frame.
+     * @throws IOException If the stream is closed or the frame is too large.
+     */
+    public static ByteBuffer readFrame(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if ((length < 0) || (length > MAX_FRAME_SIZE)) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        byte[] payload = new byte[length];
+        input.readFully(payload);
+        return ByteBuffer.wrap(payload);
+    }
+}
@@ -0,0 +1,314 @@
+package networking;
+
+import constants.NetworkConstants;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * [NioTransport.java]
+ * Non-blocking connection layer for the server.
+ * A single acceptor thread hands new sockets to a small, fixed pool of I/O threads. Each I/O thread multiplexes
+ * its connections on one Selector, drops connections that do not handshake in time and cuts the incoming bytes
+ * into frames for the TransportListener, so a slow or silent client can never hold up anyone else.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class NioTransport implements NetworkConstants {
+    private final ServerSocketChannel serverChannel;
+    private final Selector acceptSelector;
+    private final IoWorker[] workers;
+    private final TransportListener listener;
+    private final Connection.OverflowPolicy overflowPolicy;
+    private Thread acceptorThread;
+    private volatile boolean running;
+    private int nextWorker;
+
+    /**
+     * Constructor for NioTransport.
+     * Binds the server socket but does not start accepting until start is called.
+     * @param port The port to listen on.
+     * @param ioThreads The number of I/O threads to spread connections over.
+     * @param overflowPolicy What connections do once their outbound queue is full.
+     * @param listener The listener for connection events.
+     * @throws IOException If the port cannot be bound.
+     */
+    public NioTransport(int port, int ioThreads, Connection.OverflowPolicy overflowPolicy, TransportListener listener) throws IOException {
+        this.listener = listener;
+        this.overflowPolicy = overflowPolicy;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port));
+        this.serverChannel.configureBlocking(false);
+        this.acceptSelector = Selector.open();
+        this.serverChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+
+        this.workers = new IoWorker[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            workers[i] = new IoWorker(i);
+        }
+    }
+
+    /**
+     * start
+     * Starts the acceptor and all I/O threads.
+     */
+    public void start() {
+        running = true;
+        for (IoWorker worker : workers) {
+            worker.start();
+        }
+        acceptorThread = new Thread(this::acceptLoop, "nio-acceptor");
+        acceptorThread.start();
+    }
+
+    /**
+     * stop
+     * Stops accepting, closes every connection and lets the threads exit.
+     */
+    public void stop() {
+        running = false;
+        acceptSelector.wakeup();
+        for (IoWorker worker : workers) {
+            worker.selector.wakeup();
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * acceptLoop
+     * Accepts new sockets and hands them round robin to the I/O threads.
+     */
+    private void acceptLoop() {
+        while (running) {
+            try {
+                acceptSelector.select(SELECT_TIMEOUT);
+                acceptSelector.selectedKeys().clear();
+
+                SocketChannel channel;
+                while ((channel = serverChannel.accept()) != null) {
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    IoWorker worker = workers[nextWorker];
+                    nextWorker = (nextWorker + 1) % workers.length;
+                    worker.register(new Connection(channel, worker, overflowPolicy));
+                }
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+// =============================================================================================================
+
+    /**
+     * [IoWorker]
+     * One I/O thread of the transport. Owns a Selector and every Connection registered on it.
+     * Other threads only talk to it through its queues followed by a selector wakeup.
+     * @author Michael Khart
+     * @version 1.0, October 18, 2026
+     */
+    class IoWorker implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<Connection> pendingRegistrations;
+        private final Queue<Connection> pendingFlushes;
+        private final Queue<Connection> pendingCloses;
+        private final List<Connection> awaitingHandshake;
+        private final List<Connection> backlogged; // connections whose last flush could not drain their queue
+
+        /**
+         * Constructor for IoWorker.
+         * @param index The index of the worker, used to name its thread.
+         * @throws IOException If the selector cannot be opened.
+         */
+        IoWorker(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "nio-io-" + index);
+            this.pendingRegistrations = new ConcurrentLinkedQueue<>();
+            this.pendingFlushes = new ConcurrentLinkedQueue<>();
+            this.pendingCloses = new ConcurrentLinkedQueue<>();
+            this.awaitingHandshake = new ArrayList<>();
+            this.backlogged = new ArrayList<>();
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void register(Connection connection) {
+            pendingRegistrations.add(connection);
+            selector.wakeup();
+        }
+
+        void scheduleFlush(Connection connection) {
+            pendingFlushes.add(connection);
+            selector.wakeup();
+        }
+
+        void scheduleClose(Connection connection) {
+            pendingCloses.add(connection);
+            selector.wakeup();
+        }
+
+        /**
+         * run
+         * The selector loop of this I/O thread.
+         */
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select(SELECT_TIMEOUT);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    break;
+                }
+
+                registerPending();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Connection connection = (Connection) key.attachment();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        if (key.isReadable() && !connection.read(listener)) {
+                            closeNow(connection);
+                            continue;
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            if (connection.flush()) {
+                                key.interestOps(SelectionKey.OP_READ);
+                            } else {
+                                connection.checkBacklog(System.currentTimeMillis());
+                            }
+                        }
+                    } catch (IOException e) {
+                        closeNow(connection);
+                    }
+                }
+
+                flushPending();
+                expireBacklogs();
+                closePending();
+                expireHandshakes();
+            }
+
+            for (SelectionKey key : selector.keys()) {
+                closeNow((Connection) key.attachment());
+            }
+        }
+
+        private void registerPending() {
+            Connection connection;
+            while ((connection = pendingRegistrations.poll()) != null) {
+                try {
+                    connection.setKey(connection.getChannel().register(selector, SelectionKey.OP_READ, connection));
+                    awaitingHandshake.add(connection);
+                } catch (IOException e) {
+                    closeNow(connection);
+                }
+            }
+        }
+
+        private void flushPending() {
+            Connection connection;
+            while ((connection = pendingFlushes.poll()) != null) {
+                SelectionKey key = connection.getKey();
+                if ((key == null) || !key.isValid()) {
+                    continue;
+                }
+                try {
+                    if (!connection.flush()) {
+                        // the socket buffer is full, finish once the selector says it is writable again
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        if (connection.checkBacklog(System.currentTimeMillis()) && !backlogged.contains(connection)) {
+                            backlogged.add(connection);
+                        }
+                    }
+                } catch (IOException e) {
+                    closeNow(connection);
+                }
+            }
+        }
+
+        private void closePending() {
+            Connection connection;
+            while ((connection = pendingCloses.poll()) != null) {
+                closeNow(connection);
+            }
+        }
+
+        /**
+         * expireBacklogs
+         * Checks the age of the oldest queued frame of every connection that could not be flushed, since a client
+         * that stopped reading makes the selector never report it as writable again.
+         */
+        private void expireBacklogs() {
+            long now = System.currentTimeMillis();
+            Iterator<Connection> iterator = backlogged.iterator();
+            while (iterator.hasNext()) {
+                if (!iterator.next().checkBacklog(now)) {
+                    iterator.remove(); // drained, or closed for falling too far behind
+                }
+            }
+        }
+
+        /**
+         * expireHandshakes
+         * Drops connections that have not sent a valid handshake within HANDSHAKE_TIMEOUT.
+         */
+        private void expireHandshakes() {
+            long now = System.currentTimeMillis();
+            Iterator<Connection> iterator = awaitingHandshake.iterator();
+            while (iterator.hasNext()) {
+                Connection connection = iterator.next();
+                if (connection.isHandshaken() || connection.isClosed()) {
+                    iterator.remove();
+                } else if (now - connection.getConnectedAt() > HANDSHAKE_TIMEOUT) {
+                    System.out.println("Handshake timed out for " + connection.getRemoteAddress());
+                    iterator.remove();
+                    closeNow(connection);
+                }
+            }
+        }
+
+        /**
+         * closeNow
+         * Closes the socket of a connection on this thread and tells the listener if it had handshaken.
+         * @param connection The connection to close.
+         */
+        private void closeNow(Connection connection) {
+            SelectionKey key = connection.getKey();
+            if ((key != null) && !key.isValid() && !connection.getChannel().isOpen()) {
+                return; // already closed
+            }
+            connection.close();
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                connection.getChannel().close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            connection.discardOutbound();
+            if (connection.isHandshaken()) {
+                listener.onDisconnect(connection);
+            }
+        }
+    }
+}
@@ -0,0 +1,615 @@
+package networking;
+
+import constants.NetworkConstants;
+import constants.PrefixConstants;
+import entities.*;
+import networking.ClientRequestTypes.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * [ProtocolCodec.java]
+ * Encodes and decodes the binary messages sent between the client and the server.
+ * Every message starts with a one byte type code, numbers are written as varints (zigzag for values that can be
+ * negative) and game objects are identified by their numeric kind and number instead of their string ID.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public final class ProtocolCodec implements NetworkConstants, PrefixConstants {
+    private static final int MAX_ENTITY_MESSAGE = 1 + 5 + 5 + (4 * 5);
+    private static final int CHANGED_X = 1;
+    private static final int CHANGED_Y = 1 << 1;
+    private static final int CHANGED_WIDTH = 1 << 2;
+    private static final int CHANGED_HEIGHT = 1 << 3;
+    private static final Snapshot NO_BASELINE = new Snapshot(0); // never filled, the baseline of a full snapshot
+
+    private ProtocolCodec() {}
+
+    /*
+    ====================================================================
+    client to server
+    ====================================================================
+     */
+
+    /**
+     * encodeRequest
+     * Turns a client request into a frame. The client's ID is not sent, the server already knows who it is.
+     * @param request The request to encode.
+     * @return ByteBuffer, the framed request.
+     */
+    public static ByteBuffer encodeRequest(ClientRequest request) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + 2 + 10);
+        frame.position(FRAME_HEADER_SIZE);
+
+        RequestType requestType = request.getRequestType();
+        frame.put((byte) requestCode(requestType));
+        frame.put((byte) ((Enum<?>) requestType.getSubtype()).ordinal());
+
+        if (requestType instanceof GameWindowType) {
+            Class<? extends Avatar> avatarClass = ((GameWindowType) requestType).getAvatarClass();
+            if (avatarClass != null) {
+                frame.put((byte) avatarKind(avatarClass));
+            }
+        } else if (requestType instanceof NewActionType) {
+            Vector mousePoint = ((NewActionType) requestType).getMousePoint();
+            if (mousePoint != null) {
+                writeSignedVarInt(frame, mousePoint.getIntX());
+                writeSignedVarInt(frame, mousePoint.getIntY());
+            }
+        }
+        return finish(frame);
+    }
+
+    /**
+     * decodeRequest
+     * Reads a request sent by a client.
+     * @param payload The payload of the frame.
+     * @param clientID The ID of the client the frame came from.
+     * @return ClientRequest, the decoded request.
+     * @throws IOException If the request is malformed.
+     */
+    public static ClientRequest decodeRequest(ByteBuffer payload, String clientID) throws IOException {
+        try {
+            int code = payload.get();
+            int subtype = payload.get();
+            RequestType requestType;
+
+            switch (code) {
+                case GAME_WINDOW_REQUEST:
+                    if (GameWindowType.GameWindowSubtype.values()[subtype] == GameWindowType.GameWindowSubtype.CHARACTER_CHOSEN) {
+                        requestType = new GameWindowType(avatarClass(payload.get()));
+                    } else {
+                        requestType = new GameWindowType();
+                    }
+                    break;
+                case NETWORKING_REQUEST:
+                    requestType = new NetworkingType(NetworkingType.NetworkingSubtype.values()[subtype]);
+                    break;
+                case NEW_ABILITY_REQUEST:
+                    requestType = new NewAbilityType(NewAbilityType.NewAbilitySubtype.values()[subtype]);
+                    break;
+                case NEW_ACTION_REQUEST:
+                    Vector mousePoint = null;
+                    if (payload.hasRemaining()) {
+                        mousePoint = new Vector(readSignedVarInt(payload), readSignedVarInt(payload));
+                    }
+                    requestType = new NewActionType(NewActionType.NewActionSubtype.values()[subtype], mousePoint);
+                    break;
+                case OTHER_REQUEST:
+                    requestType = new OtherType(OtherType.OtherSubtype.values()[subtype]);
+                    break;
+                case START_ACTION_REQUEST:
+                    requestType = new StartActionType(StartActionType.StartActionSubtype.values()[subtype]);
+                    break;
+                default:
+                    throw new IOException("Unknown request type " + code);
+            }
+            return new ClientRequest(clientID, requestType);
+        } catch (RuntimeException e) { // buffer underflow or an out of range subtype
+            throw new IOException("Malformed request", e);
+        }
+    }
+
+    /*
+    ====================================================================
+    server to client
+    ====================================================================
+     */
+
+    /**
+     * encodeWelcome
+     * Tells a newly connected client which ID it has been given.
+     * @param clientNumber The number of the client ID.
+     * @return ByteBuffer, the framed message.
+     */
+    public static ByteBuffer encodeWelcome(int clientNumber) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + 1 + 5);
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) WELCOME_MESSAGE);
+        writeVarInt(frame, clientNumber);
+        return finish(frame);
+    }
+
+    /**
+     * encodeMapLoad
+     * Sends the static map once at the start of a match: every wall, hazard and power-up with its hitbox and
+     * whether it is currently active. Snapshots never carry these objects again.
+     * @param interactables The interactables of the map.
+     * @return ByteBuffer, the framed message.
+     */
+    public static ByteBuffer encodeMapLoad(List<Interactable> interactables) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + 1 + 5 + (interactables.size() * (MAX_ENTITY_MESSAGE + 1)));
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) MAP_LOAD_MESSAGE);
+        writeVarInt(frame, interactables.size());
+        for (Interactable interactable : interactables) {
+            Hitbox hitbox = interactable.getHitbox();
+            writeKey(frame, Snapshot.key(interactable.getKind(), interactable.getNumber()));
+            writeSignedVarInt(frame, hitbox.x);
+            writeSignedVarInt(frame, hitbox.y);
+            writeVarInt(frame, hitbox.width);
+            writeVarInt(frame, hitbox.height);
+            frame.put((byte) (isActive(interactable) ? 1 : 0));
+        }
+        return finish(frame);
+    }
+
+    /**
+     * encodeInteractableState
+     * Tells the clients that an interactable of the map was switched on or off, for example a power-up
+     * being picked up or respawning.
+     * @param interactable The interactable that changed.
+     * @param active If it is now active.
+     * @return ByteBuffer, the framed message.
+     */
+    public static ByteBuffer encodeInteractableState(Interactable interactable, boolean active) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + 1 + 1 + 5 + 1);
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) INTERACTABLE_STATE_MESSAGE);
+        writeKey(frame, Snapshot.key(interactable.getKind(), interactable.getNumber()));
+        frame.put((byte) (active ? 1 : 0));
+        return finish(frame);
+    }
+
+    /**
+     * maxEffectsSize
+     * The most bytes the effects of a snapshot can take once encoded.
+     * @param snapshot The snapshot holding the effects.
+     * @return int, an upper bound on the size of the frame.
+     */
+    public static int maxEffectsSize(Snapshot snapshot) {
+        return FRAME_HEADER_SIZE + 1 + 5 + (snapshot.getEffectCount() * (MAX_ENTITY_MESSAGE + 5));
+    }
+
+    /**
+     * encodeEffects
+     * Tells the clients to show the instant attacks of a tick, such as explosions or swings, which were already
+     * settled on the server and never appear in the snapshots themselves.
+     * @param snapshot The snapshot holding the effects of its tick.
+     * @param frame The buffer to encode into, with room for maxEffectsSize bytes. It is flipped when done.
+     */
+    public static void encodeEffects(Snapshot snapshot, ByteBuffer frame) {
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) EFFECT_MESSAGE);
+        writeVarInt(frame, snapshot.getEffectCount());
+        for (int i = 0; i < snapshot.getEffectCount(); i++) {
+            writeKey(frame, snapshot.getEffectKey(i));
+            writeSignedVarInt(frame, snapshot.getEffectX(i));
+            writeSignedVarInt(frame, snapshot.getEffectY(i));
+            writeVarInt(frame, snapshot.getEffectWidth(i));
+            writeVarInt(frame, snapshot.getEffectHeight(i));
+            writeVarInt(frame, snapshot.getEffectDuration(i));
+        }
+        finish(frame);
+    }
+
+    /**
+     * isActive
+     * The state of an interactable the clients are told about. Only power-ups can currently be inactive.
+     * @param interactable The interactable to check.
+     * @return boolean, true if it should be displayed.
+     */
+    public static boolean isActive(Interactable interactable) {
+        return !(interactable instanceof PowerUp) || ((PowerUp) interactable).isAvailable();
+    }
+
+    /**
+     * maxSnapshotSize
+     * The most bytes a snapshot frame encoded against a baseline can take.
+     * @param current The snapshot of this tick.
+     * @param baseline The snapshot the client last acknowledged, or null.
+     * @return int, an upper bound on the size of the frame.
+     */
+    public static int maxSnapshotSize(Snapshot current, Snapshot baseline) {
+        int baselineCount = (baseline == null) ? 0 : baseline.getCount();
+        return FRAME_HEADER_SIZE + 1 + (5 * 5) + ((current.getCount() + baselineCount) * (MAX_ENTITY_MESSAGE + 1));
+    }
+
+    /**
+     * encodeSnapshot
+     * Builds the single frame that tells a client everything that happened since the baseline it last
+     * acknowledged: the changed fields of objects it already knows, as differences from the baseline, the objects
+     * that are gone, and the objects that appeared. Objects that did not change are left out entirely.
+     * Without a baseline every object is sent as a spawn, which is how new and lagging clients resynchronize.
+     * @param current The snapshot of this tick.
+     * @param baseline The snapshot the client last acknowledged, or null to send everything.
+     * @param frame The buffer to encode into, with room for maxSnapshotSize bytes. It is flipped when done.
+     */
+    public static void encodeSnapshot(Snapshot current, Snapshot baseline, ByteBuffer frame) {
+        if (baseline == null) {
+            baseline = NO_BASELINE;
+        }
+        int updates = 0;
+        int removals = 0;
+        int spawns = 0;
+        int i = 0;
+        int j = 0;
+        while ((i < current.getCount()) || (j < baseline.getCount())) {
+            int order = compareKeys(current, i, baseline, j);
+            if (order < 0) {
+                spawns++;
+                i++;
+            } else if (order > 0) {
+                removals++;
+                j++;
+            } else {
+                if (changedFields(current, i, baseline, j) != 0) {
+                    updates++;
+                }
+                i++;
+                j++;
+            }
+        }
+
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) SNAPSHOT_MESSAGE);
+        writeVarInt(frame, current.getTick());
+        writeVarInt(frame, baseline.getTick());
+
+        writeVarInt(frame, updates);
+        if (updates > 0) {
+            i = 0;
+            j = 0;
+            while ((i < current.getCount()) && (j < baseline.getCount())) {
+                int order = compareKeys(current, i, baseline, j);
+                if (order < 0) {
+                    i++;
+                } else if (order > 0) {
+                    j++;
+                } else {
+                    int changed = changedFields(current, i, baseline, j);
+                    if (changed != 0) {
+                        writeKey(frame, current.getKey(i));
+                        frame.put((byte) changed);
+                        writeChangedFields(frame, changed, current, i, baseline, j);
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        writeVarInt(frame, removals);
+        writeMissing(frame, baseline, current, removals);
+
+        writeVarInt(frame, spawns);
+        i = 0;
+        j = 0;
+        while ((spawns > 0) && (i < current.getCount())) {
+            int order = compareKeys(current, i, baseline, j);
+            if (order < 0) {
+                writeKey(frame, current.getKey(i));
+                writeSignedVarInt(frame, current.getX(i));
+                writeSignedVarInt(frame, current.getY(i));
+                writeVarInt(frame, current.getWidth(i));
+                writeVarInt(frame, current.getHeight(i));
+                spawns--;
+                i++;
+            } else if (order > 0) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        finish(frame);
+    }
+
+    /**
+     * decodeSnapshot
+     * Rebuilds the full snapshot of a tick from a snapshot message and the baseline it was encoded against.
+     * @param payload The snapshot message, positioned after its type code.
+     * @param history The snapshots this client has already rebuilt, the result is recorded in it too.
+     * @return Snapshot, the rebuilt snapshot, or null if its baseline is no longer in the history.
+     * @throws IOException If the message is malformed.
+     */
+    public static Snapshot decodeSnapshot(ByteBuffer payload, SnapshotHistory history) throws IOException {
+        try {
+            int tick = readVarInt(payload);
+            int baselineTick = readVarInt(payload);
+            Snapshot baseline = (baselineTick == 0) ? NO_BASELINE : history.get(baselineTick);
+            if (baseline == null) {
+                return null;
+            }
+            Snapshot snapshot = history.next(tick);
+            snapshot.copyFrom(baseline, tick);
+
+            int updates = readVarInt(payload);
+            for (int k = 0; k < updates; k++) {
+                int index = snapshot.indexOf(readKey(payload));
+                int changed = payload.get();
+                int x = snapshot.getX(index);
+                int y = snapshot.getY(index);
+                int width = snapshot.getWidth(index);
+                int height = snapshot.getHeight(index);
+                if ((changed & CHANGED_X) != 0) {
+                    x += readSignedVarInt(payload);
+                }
+                if ((changed & CHANGED_Y) != 0) {
+                    y += readSignedVarInt(payload);
+                }
+                if ((changed & CHANGED_WIDTH) != 0) {
+                    width += readSignedVarInt(payload);
+                }
+                if ((changed & CHANGED_HEIGHT) != 0) {
+                    height += readSignedVarInt(payload);
+                }
+                snapshot.set(index, x, y, width, height);
+            }
+
+            int removals = readVarInt(payload);
+            for (int k = 0; k < removals; k++) {
+                snapshot.remove(snapshot.indexOf(readKey(payload)));
+            }
+
+            int spawns = readVarInt(payload);
+            for (int k = 0; k < spawns; k++) {
+                long key = readKey(payload);
+                snapshot.add(key, readSignedVarInt(payload), readSignedVarInt(payload), readVarInt(payload), readVarInt(payload));
+            }
+            snapshot.sort();
+            return snapshot;
+        } catch (RuntimeException e) { // buffer underflow or an object missing from the baseline
+            throw new IOException("Malformed snapshot", e);
+        }
+    }
+
+    /**
+     * changedFields
+     * Compares the hitbox of an object in two snapshots.
+     * @return int, a bit for each of x, y, width and height that differs.
+     */
+    private static int changedFields(Snapshot current, int i, Snapshot baseline, int j) {
+        int changed = 0;
+        if (current.getX(i) != baseline.getX(j)) {
+            changed |= CHANGED_X;
+        }
+        if (current.getY(i) != baseline.getY(j)) {
+            changed |= CHANGED_Y;
+        }
+        if (current.getWidth(i) != baseline.getWidth(j)) {
+            changed |= CHANGED_WIDTH;
+        }
+        if (current.getHeight(i) != baseline.getHeight(j)) {
+            changed |= CHANGED_HEIGHT;
+        }
+        return changed;
+    }
+
+    private static void writeChangedFields(ByteBuffer frame, int changed, Snapshot current, int i, Snapshot baseline, int j) {
+        if ((changed & CHANGED_X) != 0) {
+            writeSignedVarInt(frame, current.getX(i) - baseline.getX(j));
+        }
+        if ((changed & CHANGED_Y) != 0) {
+            writeSignedVarInt(frame, current.getY(i) - baseline.getY(j));
+        }
+        if ((changed & CHANGED_WIDTH) != 0) {
+            writeSignedVarInt(frame, current.getWidth(i) - baseline.getWidth(j));
+        }
+        if ((changed & CHANGED_HEIGHT) != 0) {
+            writeSignedVarInt(frame, current.getHeight(i) - baseline.getHeight(j));
+        }
+    }
+
+    /**
+     * writeMissing
+     * Writes the keys of the objects of one snapshot that are not in another.
+     * @param frame The frame being built.
+     * @param from The snapshot whose objects are checked.
+     * @param in The snapshot they are looked for in.
+     * @param missing How many are missing, so the walk can stop early.
+     */
+    private static void writeMissing(ByteBuffer frame, Snapshot from, Snapshot in, int missing) {
+        int i = 0;
+        int j = 0;
+        while ((missing > 0) && (j < from.getCount())) {
+            int order = compareKeys(in, i, from, j);
+            if (order < 0) {
+                i++;
+            } else if (order > 0) {
+                writeKey(frame, from.getKey(j));
+                missing--;
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private static int compareKeys(Snapshot current, int i, Snapshot previous, int j) {
+        if (i >= current.getCount()) {
+            return 1;
+        } else if (j >= previous.getCount()) {
+            return -1;
+        }
+        return Long.compare(current.getKey(i), previous.getKey(j));
+    }
+
+    private static void writeKey(ByteBuffer frame, long key) {
+        frame.put((byte) Snapshot.kindOf(key));
+        writeVarInt(frame, Snapshot.numberOf(key));
+    }
+
+    private static long readKey(ByteBuffer payload) {
+        int kind = payload.get() & 0xFF;
+        return Snapshot.key(kind, readVarInt(payload));
+    }
+
+    /**
+     * encodeAck
+     * Tells the server which snapshot the client has rebuilt, so it can be used as the baseline of later deltas.
+     * @param tick The tick of the snapshot.
+     * @return ByteBuffer, the framed message.
+     */
+    public static ByteBuffer encodeAck(int tick) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + 1 + 5);
+        frame.position(FRAME_HEADER_SIZE);
+        frame.put((byte) SNAPSHOT_ACK_REQUEST);
+        writeVarInt(frame, tick);
+        return finish(frame);
+    }
+
+    /**
+     * isAck
+     * Checks if a frame from a client is a snapshot acknowledgement rather than a request.
+     * @param payload The payload of the frame, its position is not changed.
+     * @return boolean, true if it is an acknowledgement.
+     */
+    public static boolean isAck(ByteBuffer payload) {
+        return payload.hasRemaining() && (payload.get(payload.position()) == SNAPSHOT_ACK_REQUEST);
+    }
+
+    /**
+     * decodeAck
+     * Reads the tick of a snapshot acknowledgement.
+     * @param payload The payload of the frame.
+     * @return int, the acknowledged tick.
+     * @throws IOException If the message is malformed.
+     */
+    public static int decodeAck(ByteBuffer payload) throws IOException {
+        try {
+            payload.get();
+            return readVarInt(payload);
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed acknowledgement", e);
+        }
+    }
+
+    /**
+     * readHitbox
+     * Reads the hitbox part of an entity message.
+     * @param payload The payload positioned at the hitbox.
+     * @return Hitbox, the decoded hitbox.
+     */
+    public static Hitbox readHitbox(ByteBuffer payload) {
+        int x = readSignedVarInt(payload);
+        int y = readSignedVarInt(payload);
+        int width = readVarInt(payload);
+        int height = readVarInt(payload);
+        return new Hitbox(x, y, width, height);
+    }
+
+    /**
+     * readObjectID
+     * Reads a kind and number and rebuilds the string ID the display code uses.
+     * @param payload The payload positioned at the kind byte.
+     * @return String, the ID of the object, for example "11-0".
+     */
+    public static String readObjectID(ByteBuffer payload) {
+        int kind = payload.get() & 0xFF;
+        return kind + "-" + readVarInt(payload);
+    }
+
+    /**
+     * objectID
+     * Rebuilds the string ID the display code uses from a snapshot key.
+     * @param key The key of the object.
+     * @return String, the ID of the object, for example "11-0".
+     */
+    public static String objectID(long key) {
+        return Snapshot.kindOf(key) + "-" + Snapshot.numberOf(key);
+    }
+
+    /*
+    ====================================================================
+    helpers
+    ====================================================================
+     */
+
+    /**
+     * finish
+     * Writes the length header of a frame that was filled from FRAME_HEADER_SIZE onwards and flips it.
+     * @param frame The frame being built.
+     * @return ByteBuffer, the same frame ready to be sent.
+     */
+    static ByteBuffer finish(ByteBuffer frame) {
+        frame.putInt(0, frame.position() - FRAME_HEADER_SIZE);
+        frame.flip();
+        return frame;
+    }
+
+    public static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0 && shift < 35);
+        return value;
+    }
+
+    public static void writeSignedVarInt(ByteBuffer buffer, int value) {
+        writeVarInt(buffer, (value << 1) ^ (value >> 31)); // zigzag so small negatives stay small
+    }
+
+    public static int readSignedVarInt(ByteBuffer buffer) {
+        int value = readVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int requestCode(RequestType requestType) {
+        if (requestType instanceof GameWindowType) {
+            return GAME_WINDOW_REQUEST;
+        } else if (requestType instanceof NetworkingType) {
+            return NETWORKING_REQUEST;
+        } else if (requestType instanceof NewAbilityType) {
+            return NEW_ABILITY_REQUEST;
+        } else if (requestType instanceof NewActionType) {
+            return NEW_ACTION_REQUEST;
+        } else if (requestType instanceof OtherType) {
+            return OTHER_REQUEST;
+        }
+        return START_ACTION_REQUEST;
+    }
+
+    private static int avatarKind(Class<? extends Avatar> avatarClass) {
+        if (avatarClass == Titan.class) {
+            return TITAN_KIND;
+        } else if (avatarClass == Goblino.class) {
+            return GOBLINO_KIND;
+        }
+        return NORMAN_KIND;
+    }
+
+    private static Class<? extends Avatar> avatarClass(int kind) {
+        if (kind == TITAN_KIND) {
+            return Titan.class;
+        } else if (kind == GOBLINO_KIND) {
+            return Goblino.class;
+        }
+        return Norman.class;
+    }
+}
@@ -1,856 +1,1186 @@
-package networking;
-import constants.AttackConstants;
-import constants.AvatarConstants;
-import constants.GameConstants;
-import constants.PrefixConstants;
-import entities.Vector;
-import entities.Vector.Direction;
-import networking.ClientRequestTypes.*;
-import entities.*;
-import entities.Holster.WeaponHolster;
-import networking.ClientRequestTypes.GameWindowType.GameWindowSubtype;
-import networking.ClientRequestTypes.NetworkingType.NetworkingSubtype;
-import networking.ClientRequestTypes.NewAbilityType.NewAbilitySubtype;
-import networking.ClientRequestTypes.NewActionType.NewActionSubtype;
-import networking.ClientRequestTypes.OtherType.OtherSubtype;
-import networking.ClientRequestTypes.StartActionType.StartActionSubtype;
-
-import java.awt.*;
-import java.io.*;
-import java.net.*;
-import java.util.*;
-import java.net.Socket;
-import java.util.List;
-
-/**
- * [Server]
- * Manages the networking aspects of a multiplayer game, handling client connections, game phases, and game state updates.
- * @author Dilen De Silva
- * @version 1.0, 01/22/2024
- */
-public class Server {
-    private final int PORT = 5000;
-    private ServerSocket serverSocket;
-    private Map<ClientHandler, Thread> syncClientsMap = Collections.synchronizedMap(new HashMap<>(5));
-    public enum GamePhases {
-        IN_LOBBY, IN_GAME
-    }
-    private GameEngine gameEngine;
-    private Thread gameEngineThread;
-    public static GamePhases currGamePhase;
-    private ConnectionListener connectionListener;
-    private Thread connectionListenerThread;
-
-
-    public static void main(String[] args) throws Exception {
-        Server server = new Server();
-        server.run();
-    }
-
-    /**
-     * Constructs the Server object, initializing the server socket, game engine, and listener threads.
-     * @throws IOException If an error occurs in opening the server socket.
-     */
-    public Server() throws IOException {
-        serverSocket = new ServerSocket(PORT);
-        currGamePhase = GamePhases.IN_LOBBY;
-        connectionListener = new ConnectionListener();
-        connectionListenerThread = new Thread(connectionListener);
-        gameEngine = new GameEngine();
-        gameEngineThread = new Thread(gameEngine);
-    }
-
-    public void run() {
-        System.out.println("Starting the server...");
-        connectionListenerThread.start(); // Start the connection listener thread
-    }
-
-    /**
-     * BroadcastUpdated
-     * Broadcasts updated game state to all connected clients.
-     */
-    private void broadcastUpdated() { // REPLACE WITH ACTUAL CLASSES
-        this.gameEngine.broadcastUpdated();
-    }
-
-    /**
-     * broadcast
-     * sends a newly updated game object to all clients
-     * @param updatedObj
-     */
-    private void broadcast(GameObject updatedObj) {
-        for (ClientHandler client : syncClientsMap.keySet()) {
-            StringBuilder broadcast = new StringBuilder();
-            broadcast.append(updatedObj.getID() + " ");
-            broadcast.append(updatedObj.getHitbox().x + " ");
-            broadcast.append(updatedObj.getHitbox().y + " ");
-            broadcast.append(updatedObj.getHitbox().width + " ");
-            broadcast.append(updatedObj.getHitbox().height + " ");
-
-            client.sendObject((broadcast).toString());
-        }
-    }
-
-    private void broadcast(String str) {
-        for (ClientHandler client : syncClientsMap.keySet()) {
-            client.sendObject(str);
-        }
-    }
-
-    /**
-     * whisper
-     * Sends a private message to a specific client identified by ID.
-     * @param message The message to be sent.
-     * @param ID The unique identifier of the client.
-     */
-    private void whisper(String message, String ID) {
-        for (ClientHandler client : syncClientsMap.keySet()) {
-            if (client.getID().equals(ID)) {
-                client.sendObject(message);
-                break; // since we know its taken no point continuing to loop
-            }
-        }
-    }
-
-    /**
-     * initateGame
-     * Initiates the game by setting up the map
-     */
-    private void initiateGame() {
-        this.gameEngine.initiateMap();
-        currGamePhase = GamePhases.IN_GAME;
-        gameEngineThread.start();
-        connectionListenerThread.interrupt();
-    }
-
-    /**
-     * reserGame
-     * used to reset the game for next matches
-     */
-    private void resetGame() {
-        this.gameEngine.wipeMap();
-    }
-
-    /**
-     * checkGameState
-     * checks if all client have told that they are ready, if so then they will
-     */
-    private void checkGameState() {
-        boolean everyoneReady = true;
-
-        for (ClientHandler currClient : syncClientsMap.keySet()) {
-            if (!currClient.getReady()) {
-                everyoneReady = false;
-                break; // break since someone isnt ready no point in looping
-            }
-        }
-
-        if (everyoneReady) {
-            initiateGame();
-        }
-    }
-
-    /**
-     * fetchClientAvatar
-     * Returns the clients avatar.
-     * @param ID Id of the client
-     * @return The avatar of the client.
-     */
-    private Avatar fetchClientAvatar(String ID) {
-        Avatar clientsAvatar = null;
-        for (Avatar avatar : gameEngine.getSyncAvatars()) { // finds the clients avatar
-            if (avatar.getIDWithoutPrefix().equals(ID)) {
-                clientsAvatar = avatar;
-            }
-        }
-        return clientsAvatar;
-    }
-
-    /**
-     * newClientid
-     * Creates a unique id for connecting clients
-     * @return new ID
-     */
-    private String newClientID() {
-        int lowestUnusedId = 0;
-
-        while (true) {
-            String potentialId = "C-" + lowestUnusedId;
-            boolean isTaken = false;
-
-            for (ClientHandler handler : syncClientsMap.keySet()) {
-                if (handler.getID().equals(potentialId)) {
-                    isTaken = true;
-                    break; // since we know its taken no point continuing to loop
-                }
-            }
-
-            if (!isTaken) {
-                return potentialId;
-            }
-
-            lowestUnusedId++;
-        }
-    }
-
-    /**
-     * disconnectClient
-     * Disconnects a client and removes their handler from the client map.
-     * @param client The ClientHandler of the client to disconnect.
-     */
-    private void disconnectClient(ClientHandler client) {
-        try {
-            Thread threadToRemove = syncClientsMap.get(client);
-            threadToRemove.interrupt();
-            client.getSocket().close();
-            syncClientsMap.remove(client);
-        } catch (SocketException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        if (this.syncClientsMap.isEmpty()) {
-            System.exit(0);
-        }
-    }
-
-
-// =============================================================================================================
-
-    /**
-     * [ConnectionListener]
-     * Class is responsible for receiving and then connecting clients to the server.
-     * @author Michael Khart
-     * @version 1.0, 01,22,2024A
-     */
-    class ConnectionListener implements Runnable {
-        public void run() {
-            try {
-                System.out.println("Waiting for a connection request from a client...");
-                while (!Thread.currentThread().isInterrupted() && currGamePhase.equals(GamePhases.IN_LOBBY)) {
-                    try {
-                        Socket clientSocket = serverSocket.accept();
-                        System.out.println("New client");
-
-                        // sets up all of the connections and gives a new id to the new client
-                        ClientHandler handler = new ClientHandler(clientSocket);
-                        String newID = newClientID();
-                        handler.setID(newID);
-                        handler.sendObject(new ServerMessage(newID, null, ServerMessage.MessageType.WHISPER));
-                        Thread connectionThread = new Thread(handler);
-
-                        syncClientsMap.put(handler, connectionThread);
-                        connectionThread.start();
-                    } catch (SocketException e) {
-                        System.out.println("Server Socket is closed.");
-                    }
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
-    }
-
-// =============================================================================================================
-
-    /**
-     * ClientHandler
-     * The clientHandler class is responsible for helping smooth the communication and request handling between
-     * the server and several clients.
-     * @author Michael Khart
-     * @version 1.0, 01/22/2024
-     */
-    class ClientHandler implements Runnable {
-        private Socket socket;
-        private ObjectOutputStream output;
-        private ObjectInputStream input;
-        private String ID;
-        private boolean ready;
-
-        /**
-         * ClientHandler
-         * Constructor for the ClientHandler
-         * @param socket The socket that connects this and the Client.
-         */
-        public ClientHandler(Socket socket) {
-            this.socket = socket;
-            ready = false;
-            try {
-                output = new ObjectOutputStream(socket.getOutputStream());
-                input = new ObjectInputStream(socket.getInputStream());
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-
-        }
-
-        /**
-         * run
-         * This method will handle any requests that the clients send to the server.
-         */
-        @Override
-        public void run() {
-            ClientRequest request;
-
-            try {
-                while (!socket.isClosed()) {
-                    request = (ClientRequest) input.readObject();
-                    if (request != null ) {
-                        handleRequest(request);
-                    }
-                }
-            } catch (IOException | ClassNotFoundException e) {
-                e.printStackTrace();
-            }
-        }
-
-        /**
-         * handleRequest
-         * This method will see what type of action the client is trying to do and act accordingly.
-         * @param request The request object the clients have sent
-         */
-        private void handleRequest(ClientRequest request) {
-            RequestType requestType = request.getRequestType();
-
-            // if we are in lobby, we only take in some requests/actions
-            if (currGamePhase.equals(GamePhases.IN_LOBBY)) {
-
-                if (requestType instanceof GameWindowType) {
-                    GameWindowType requestCast = ((GameWindowType) requestType);
-                    GameWindowSubtype requestCastSubtype = (GameWindowSubtype) requestCast.getSubtype();
-
-                    if (requestCastSubtype.equals(GameWindowSubtype.CHARACTER_CHOSEN)) {
-                        // will create a empty class object
-                        Class<?> clazz;
-                        Avatar requestAvatarInstance = null;
-                        try {
-                            clazz = requestCast.getAvatarClass();
-                            requestAvatarInstance = (Avatar) clazz.newInstance();
-                        } catch (java.lang.InstantiationException | java.lang.IllegalAccessException e) {
-                            e.printStackTrace();
-                        }
-
-                        // depending on the requests chosen avatar type, we create that avatar instance
-                        if (requestAvatarInstance != null) {
-                            Avatar clientAvatar;
-                            if (requestAvatarInstance instanceof Norman) {
-                                clientAvatar = new Norman(request.getIDWithoutPrefix());
-                                gameEngine.addAvatar(clientAvatar);
-                            } else if (requestAvatarInstance instanceof Titan) {
-                                clientAvatar = new Titan(request.getIDWithoutPrefix());
-                                gameEngine.addAvatar(clientAvatar);
-                            } else {
-                                clientAvatar = new Goblino(request.getIDWithoutPrefix());
-                                gameEngine.addAvatar(clientAvatar);
-                            }
-
-                        }
-                    // if the client has entered ready then make that client ready (used in seeing if we initate game)
-                    } else if (requestCastSubtype.equals(GameWindowSubtype.READY)) {
-                        if (fetchClientAvatar(request.getIDWithoutPrefix()) != null) { // if they have chosen an avatar
-                            this.ready = true;
-                            checkGameState();
-                        }
-                    }
-                } else if (requestType instanceof NetworkingType) {
-                    // if the client wants to disconnect, let them
-                    NetworkingType requestCast = ((NetworkingType) requestType);
-                    NetworkingSubtype requestCastSubtype = (NetworkingSubtype) requestCast.getSubtype();
-
-                    if (requestCastSubtype.equals(NetworkingSubtype.DISCONNECT)) {
-                        disconnect();
-                    }
-                }
-            } else if (currGamePhase.equals(GamePhases.IN_GAME)) {
-                // now that we are in game different things happen when different request come in
-                Avatar clientsAvatar = fetchClientAvatar(request.getIDWithoutPrefix());
-
-                // since the client is trying to create a new attack, create an attack based on their current weapon
-                if (requestType instanceof NewActionType) {
-                    NewActionType requestCast = ((NewActionType) requestType);
-                    NewActionSubtype requestCastSubtype = (NewActionSubtype) requestCast.getSubtype();
-                    Vector mousePoint = requestCast.getMousePoint();
-                    if (requestCastSubtype.equals(NewActionSubtype.NEW_ATTACK )) {
-                        gameEngine.syncAttacks.add(clientsAvatar.attack(mousePoint));
-                    } else if (requestCastSubtype.equals(NewActionSubtype.ULTIMATE_ABILITY)) {
-                        gameEngine.syncAttacks.add(clientsAvatar.ultimateAbility());
-                    }
-
-                // if we want to start a movement ability
-                } else if (requestType instanceof NewAbilityType) {
-                    NewAbilityType requestCast = ((NewAbilityType) requestType);
-                    NewAbilitySubtype requestCastSubtype = (NewAbilitySubtype) requestCast.getSubtype();
-                    if (requestCastSubtype.equals(NewAbilitySubtype.JUMP)) {
-                        clientsAvatar.jump();
-                    } else if (requestCastSubtype.equals(NewAbilitySubtype.DASH)) {
-                        clientsAvatar.dash();
-                    } else if (requestCastSubtype.equals(NewAbilitySubtype.LAUNCH)) {
-                        clientsAvatar.launch();
-                    }
-
-                // if the client is starting to move in a certain direction
-                } else if (requestType instanceof StartActionType) {
-                    StartActionType requestCast = ((StartActionType) requestType);
-                    StartActionSubtype requestCastSubtype = (StartActionSubtype) requestCast.getSubtype();
-                    if (requestCastSubtype.equals(StartActionSubtype.START_MOVING_RIGHT)) {
-                        if (clientsAvatar.getSpeed().getIntX() < AvatarConstants.MAX_PLAYER_SPEED) {
-                            clientsAvatar.speedUp(Direction.RIGHT);
-                        }
-                    } else if (requestCastSubtype.equals(StartActionSubtype.START_MOVING_LEFT)) {
-                        if (clientsAvatar.getSpeed().getIntX() < AvatarConstants.MAX_PLAYER_SPEED) {
-                            clientsAvatar.speedUp(Direction.LEFT);
-                        }
-                    }
-
-                // if the client is trying to disconnect,
-                } else if (requestType instanceof NetworkingType) {
-                    NetworkingType requestCast = ((NetworkingType) requestType);
-                    NetworkingSubtype requestCastSubtype = (NetworkingSubtype) requestCast.getSubtype();
-                    if (requestCastSubtype.equals(NetworkingSubtype.UPDATE_REQUESTED)) {
-                        broadcastUpdated();
-                    } else if (requestCastSubtype.equals(NetworkingSubtype.DISCONNECT)) {
-                        disconnect();
-                    }
-
-                // switch their current weapon
-                } else if (requestType instanceof OtherType) {
-                    OtherType requestCast = ((OtherType) requestType);
-                    OtherSubtype requestCastSubtype = (OtherSubtype) requestCast.getSubtype();
-                    if (requestCastSubtype.equals(OtherSubtype.KEY_1)) {
-                        if (clientsAvatar.getWeaponHolster().getCurrentWeapon().canHolsterWeapon(WeaponHolster.MELEE)) {
-                            clientsAvatar.switchWeapon(WeaponHolster.MELEE);
-                        }
-                    } else if (requestCastSubtype.equals(OtherSubtype.KEY_2)) {
-                        if (clientsAvatar.getWeaponHolster().getCurrentWeapon().canHolsterWeapon(WeaponHolster.GUN)) {
-                            clientsAvatar.switchWeapon(WeaponHolster.GUN);
-                        }
-                    } else {
-                        if (clientsAvatar.getWeaponHolster().getCurrentWeapon().canHolsterWeapon(WeaponHolster.RPG)) {
-                            clientsAvatar.switchWeapon(WeaponHolster.RPG);
-                        }
-                    }
-                }
-            }
-        }
-
-        /**
-         * sendObj
-         * sends an object through the streams to the client.
-         * @param updatedObj The object we are sending
-         */
-        public void sendObject(Object updatedObj) {
-            try {
-                output.writeObject(updatedObj);
-            } catch (IOException e) {
-                System.out.println("There are no clients to broadcast to.");
-            }
-        }
-
-        /**
-         * disconnect
-         * Disconnects this client and handler from the server
-         */
-        private void disconnect() {
-            try {
-                disconnectClient(this);
-                output.close();
-                input.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
-
-        /*
-        ============================
-        getters and setters
-        ============================
-         */
-
-        public Socket getSocket() {
-            return socket;
-        }
-
-        public String getID() {
-            return ID;
-        }
-        public void setID(String ID) {
-            this.ID = ID;
-        }
-        public boolean getReady() {
-            return ready;
-        }
-    }
-
-// =============================================================================================================
-
-    /**
-     * [GameEngine]
-     * This class is responsible for doing in game caluclations like moving all entities, calculating and
-     * handling collisions, etc.
-     * @author Michael Khart
-     * @version 1.0  01,22,2024
-     */
-    class GameEngine implements Runnable, GameConstants, AttackConstants, PrefixConstants {
-        private Point playerRespawnPoint;
-        private List<Point> enemySpawnPoints;
-        private List<Avatar> syncAvatars;
-        private List<Enemy> syncEnemies;
-        private List<Attacks> syncAttacks;
-        private List<Interactable> syncInteractables;
-
-        /**
-         * Constructor for GameEngine
-         * Initiates needed collections
-         */
-        public GameEngine() {
-            this.enemySpawnPoints = new ArrayList<>(4);
-            this.syncAvatars = Collections.synchronizedList( new ArrayList<>(4));
-            this.syncEnemies = Collections.synchronizedList(new ArrayList<>(8));
-            this.syncAttacks  = Collections.synchronizedList(new ArrayList<>());
-            this. syncInteractables = Collections.synchronizedList(new ArrayList<>(30));
-        }
-
-
-        /**
-         * initiateMap
-         * Reads a save file and uploads saved data into data collections
-         */
-        public void initiateMap() {
-            String mapSave = "Save1";
-            Scanner fileReader = null;
-            try {
-                fileReader = new Scanner(new File("src/saving/" + mapSave + ".txt"));
-            } catch(FileNotFoundException e) {
-                e.printStackTrace();
-            }
-            // first line in save is the player respawn point
-            playerRespawnPoint = new Point(fileReader.nextInt(), fileReader.nextInt());
-
-            for (Avatar avatar : syncAvatars) {
-                avatar.getHitbox().setIntX(playerRespawnPoint.x);
-                avatar.getHitbox().setIntY(playerRespawnPoint.y);
-            }
-            fileReader.nextLine();
-
-            // sets enemy respawnPoints
-            String[] enemySpawnPoints =  fileReader.nextLine().split(" ");
-            for (int i = 0; i < enemySpawnPoints.length; i += 2) {
-                this.enemySpawnPoints.add(new Point(Integer.parseInt(enemySpawnPoints[i]), Integer.parseInt(enemySpawnPoints[i + 1])));
-            }
-            while (fileReader.hasNext()) {
-                String objectType = fileReader.next();
-                // turns saved data into objects and adds them to collections
-                switch (objectType) {
-                    case "Wall" :
-                        this.syncInteractables.add(new Wall(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt())));
-                        break;
-                    case "Hazard" :
-                        this.syncInteractables.add(new Hazard(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt()), fileReader.nextInt()));
-                        break;
-                    case "PowerUp":
-                        this.syncInteractables.add(new PowerUp(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt()), PowerUp.BoostType.valueOf(fileReader.next()), fileReader.nextDouble()));
-                        break;
-
-                }
-            }
-        }
-
-
-        /**
-         * Run
-         * This method acts as the main game loop, where objects are moved, collisions handled, etc
-         */
-        @Override
-        public void run() {
-            while (currGamePhase.equals(GamePhases.IN_GAME)) {
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-
-                // Moves all the objects that can move
-                for (Avatar avatar : syncAvatars) {
-                    avatar.move();
-                }
-                List<Attacks> attacksToRemove = new ArrayList<>();
-                for (Attacks attack : syncAttacks) {
-                    if (attack instanceof Melee) {
-                        if (((Melee) attack).checkTimer()) {
-                            attacksToRemove.add(attack);
-                        }
-                    } else if (attack instanceof Explosion) {
-                        ((Explosion) attack).update();
-                        if (((Explosion) attack).checkSize()) {
-                            attacksToRemove.add(attack);
-                        }
-                    } else if (attack instanceof Projectile) {
-                        ((Projectile) attack).update();
-                    }
-                }
-
-
-                for (Enemy enemy : syncEnemies) {
-                    if (enemy instanceof ThunderGuard) {
-                        ((ThunderGuard) enemy).move(getProximity(enemy, true, false, false,true));
-                    }
-                }
-
-                // handle all the collisions first for avatar and then enemeis and attacks
-                // uses proximity (only objects close to it) for caluclations
-                for (Avatar avatar : syncAvatars) {
-                    for (Attacks attack : attacksInProximity(avatar)) {
-                        if (avatar.getHitbox().intersects(attack.getHitbox())) {
-                            if (!(avatar.getIDWithoutPrefix().equals(attack.getCreatorID()))) {
-                                avatar.handleCollision(attack);
-                                attacksToRemove.add(attack);
-                                System.out.println("avatar has collided with attack");
-                            }
-                        }
-                    }
-                    for (Enemy enemy : enemiesInProximity(avatar)) {
-                        if (avatar.getHitbox().intersects(enemy.getHitbox())) {
-                            avatar.handleCollision(enemy);
-                        }
-                    }
-                    for (Interactable interactable : interactablesInProximity(avatar)) {
-                        if (avatar.getHitbox().intersects(interactable.getHitbox())) {
-                            avatar.handleCollision(interactable);
-                        }
-                    }
-                }
-                for (Enemy enemy : syncEnemies) {
-                    for (Attacks attack : attacksInProximity(enemy)) {
-                        if (enemy.getHitbox().intersects(attack.getHitbox())) {
-                            enemy.handleCollision(attack);
-                        }
-                    }
-                    for (Interactable interactable : interactablesInProximity(enemy)) {
-                        if (enemy.getHitbox().intersects(interactable.getHitbox())) {
-                            enemy.handleCollision(interactable);
-                        }
-                    }
-                }
-                List<Attacks> newAttacks = new ArrayList<>();
-                for (Attacks attack : syncAttacks) {
-                    for (Interactable interactable : interactablesInProximity(attack)) {
-                        if (attack.getHitbox().intersects(interactable.getHitbox())) {
-                            if (attack instanceof Rocket) {
-                                newAttacks.add(((Rocket) attack).startExplosion());
-                                attacksToRemove.add(attack);
-                            } else if (attack instanceof Bullet) {
-                                attacksToRemove.add(attack);
-                            }
-                        }
-                    }
-                }
-                syncAttacks.addAll(newAttacks);
-
-                // removes unneeded things and respawns avatars/enemies if they died
-                for (Attacks attack : attacksToRemove) {
-                    broadcast("INFO_UPDATE REMOVE " + attack.getID());
-                }
-                syncAttacks.removeAll(attacksToRemove);
-                syncEnemies.removeIf(enemy -> (enemy.getHealth() < 0));
-                for (Avatar avatar : syncAvatars ) {
-                    if (avatar.getHealth() < 0) {
-                        avatar.respawn(this.playerRespawnPoint);
-                    }
-                }
-
-                this.broadcastUpdated();
-            }
-
-        }
-
-
-        /**
-         * broadcastUpdated
-         * Will send updates of all the objects within the game to clients.
-         */
-        private void broadcastUpdated() {
-            for (Avatar avatar : syncAvatars) {
-                broadcast(avatar);
-            }
-            for (Attacks attack : syncAttacks) {
-                broadcast(attack);
-            }
-            for (Enemy enemy : syncEnemies) {
-                broadcast(enemy);
-            }
-            for (Interactable interactable : syncInteractables) {
-                broadcast(interactable);
-            }
-        }
-
-        /**
-         * getProximity
-         * Will return an Arraylist of GameObjects. This is used to optomise the game/calculations as we only take
-         * objects that are within a small radius into account when doing things like calculating collisions and movement.
-         * Takes in 4 booleans which will be used to determine what objects we would like to add.
-         * @param aliveObj The object that we are looking for a proximity of.
-         * @param includeAvatars Boolean of if we want to include
-         * @param includeEnemies Boolean of if we want to include
-         * @param includeAttacks Boolean of if we want to include
-         * @param includeInteractables Boolean of if we want to include
-         * @return The collection of the object types within a raidus
-         */
-        public ArrayList<GameObject> getProximity(Alive aliveObj, boolean includeAvatars, boolean includeEnemies, boolean includeAttacks, boolean includeInteractables) {
-            ArrayList<GameObject> proximity = new ArrayList<>();
-            if (includeAvatars) {
-                proximity.addAll(avatarsInProximity(aliveObj));
-            }
-            if (includeAttacks) {
-                proximity.addAll(attacksInProximity(aliveObj));
-            }
-            if (includeEnemies) {
-                proximity.addAll(enemiesInProximity(aliveObj));
-            }
-            if (includeInteractables) {
-                proximity.addAll(interactablesInProximity(aliveObj));
-            }
-            return proximity;
-        }
-
-        /**
-         * avatarsInProximity
-         * This method will return each instance of an Avatar object that is within the PROXIMITY threshold
-         * @param aliveObj The object whos surroundings will be taken and analysed.
-         * @return The collection of nearby avatars
-         */
-        private ArrayList<Avatar> avatarsInProximity(Alive aliveObj) {
-            ArrayList<Avatar> proximity = new ArrayList<>();
-            int aliveObjX = (int) aliveObj.getHitbox().getLocation().getX();
-            int aliveObjY = (int) aliveObj.getHitbox().getLocation().getY();
-            double distanceX, distanceY;
-            int distance;
-
-            for (Avatar avatar : syncAvatars) {
-                Point objectLocation = avatar.getHitbox().getLocation();
-                distanceX = Math.abs(aliveObjX - objectLocation.getX());
-                distanceY = Math.abs(aliveObjY - objectLocation.getY());
-                distance = (int) Math.sqrt(Math.pow(distanceX, 2) + Math.pow(distanceY, 2));
-
-                if (distance <= PROXIMITY_RADIUS) {
-                    proximity.add(avatar);
-                }
-            }
-            return proximity;
-        }
-
-        /**
-         * enemiesInProximity
-         * This method will return each instance of an enemy object that is within the PROXIMITY threshold.
-         * @param aliveObj The object whose proximity is being looked at
-         * @return The nearby enemies
-         */
-        private ArrayList<Enemy> enemiesInProximity(Alive aliveObj) {
-            ArrayList<Enemy> proximity = new ArrayList<>();
-            int aliveObjX = (int) aliveObj.getHitbox().getLocation().getX();
-            int aliveObjY = (int) aliveObj.getHitbox().getLocation().getY();
-            double distanceX, distanceY;
-            int distance;
-
-            for (Enemy enemy : syncEnemies) {
-                Point objectLocation = enemy.getHitbox().getLocation();
-                distanceX = Math.abs(aliveObjX - objectLocation.getX());
-                distanceY = Math.abs(aliveObjY - objectLocation.getY());
-                distance = (int) Math.sqrt(Math.pow(distanceX, 2) + Math.pow(distanceY, 2));
-
-                if (distance <= PROXIMITY_RADIUS) {
-                    proximity.add(enemy);
-                }
-            }
-            return proximity;
-        }
-
-        /**
-         * attacksInProximity
-         * This method will return each instance of an Attack object that is within the PROXIMITY threshold.
-         * @param aliveObj The object whose proximity is being looked at
-         * @return The nearby attacks
-         */
-
-        private ArrayList<Attacks> attacksInProximity(Alive aliveObj) {
-            ArrayList<Attacks> proximity = new ArrayList<>();
-            int aliveObjX = (int) aliveObj.getHitbox().getLocation().getX();
-            int aliveObjY = (int) aliveObj.getHitbox().getLocation().getY();
-            double distanceX, distanceY;
-            int distance;
-
-            for (Attacks attack : syncAttacks) {
-                Point objectLocation = attack.getHitbox().getLocation();
-                distanceX = Math.abs(aliveObjX - objectLocation.getX());
-                distanceY = Math.abs(aliveObjY - objectLocation.getY());
-                distance = (int) Math.sqrt(Math.pow(distanceX, 2) + Math.pow(distanceY, 2));
-
-                if (distance <= PROXIMITY_RADIUS) {
-                    proximity.add(attack);
-                }
-            }
-            return proximity;
-        }
-
-        /**
-         * interatablesInProximity
-         * This method will return each instance of an Interactable object that is within the PROXIMITY threshold.
-         * @param object The object whose proximity is being looked at
-         * @return The nearby interactables
-         */
-        private ArrayList<Interactable> interactablesInProximity(GameObject object) {
-            ArrayList<Interactable> interactables = new ArrayList<Interactable>();
-            interactables.addAll(syncInteractables);
-            return (interactables);
-        }
-
-        /**
-         * wipeMap
-         * Used to restart the game and wipe all info for the purpose of enabling replayability
-         */
-        public void wipeMap() {
-            this.playerRespawnPoint = null;
-            this.enemySpawnPoints.clear();
-            this.syncAvatars.clear();
-            this.syncEnemies.clear();
-            this.syncInteractables.clear();
-            this.syncAttacks.clear();
-        }
-
-        /**
-         * newEnemyID
-         * Finds a unique unused enemyID within the game to assign to new Enemies
-         * @return The unique ID
-         */
-        public String newEnemyID() {
-            int lowestUnusedId = 0;
-
-            while (true) {
-                String potentialId = String.valueOf(lowestUnusedId);
-                boolean isTaken = false;
-
-                for (Enemy enemy : syncEnemies) {
-                    if (enemy.getIDWithoutPrefix().equals(potentialId)) {
-                        isTaken = true;
-                        break; // since it's taken, no point continuing to loop
-                    }
-                }
-
-                if (!isTaken) {
-                    return potentialId;
-                }
-
-                lowestUnusedId++;
-            }
-        }
-
-        // getters and setters
-
-        public void addAvatar(Avatar avatar) {
-            this.syncAvatars.add(avatar);
-        }
-        public List<Avatar> getSyncAvatars() {
-            return syncAvatars;
-        }
-    }
-}
+package networking;
+import constants.AttackConstants;
+import constants.AvatarConstants;
+import constants.CollisionConstants;
+import constants.GameConstants;
+import constants.NetworkConstants;
+import constants.PrefixConstants;
+import entities.Vector;
+import entities.Vector.Direction;
+import networking.ClientRequestTypes.*;
+import entities.*;
+import entities.Holster.WeaponHolster;
+import networking.ClientRequestTypes.GameWindowType.GameWindowSubtype;
+import networking.ClientRequestTypes.NetworkingType.NetworkingSubtype;
+import networking.ClientRequestTypes.NewAbilityType.NewAbilitySubtype;
+import networking.ClientRequestTypes.NewActionType.NewActionSubtype;
+import networking.ClientRequestTypes.OtherType.OtherSubtype;
+import networking.ClientRequestTypes.StartActionType.StartActionSubtype;
+import networking.Command.CommandType;
+
+import java.awt.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * [Server]
+ * Manages the networking aspects of a multiplayer game, handling client connections, game phases, and game state updates.
+ * @author Dilen De Silva
+ * @version 1.0, 01/22/2024
+ */
+public class Server implements NetworkConstants {
+    private NioTransport transport;
+    // only the broadcaster thread encodes snapshots, so these need no locking
+    private BufferPool broadcastBuffers;
+    private int[] baselineTicks; // the distinct baselines of one broadcast and the frame encoded for each
+    private SharedFrame[] baselineFrames;
+    private SnapshotExchange snapshotExchange; // the engine publishes each tick here for the broadcaster
+    private Map<Connection, ClientHandler> syncClientsMap = new ConcurrentHashMap<>(5);
+    // handles of the connected clients and the handler of each slot, both guarded by syncClientsMap
+    private HandleAllocator clientHandles = new HandleAllocator(8);
+    private ClientHandler[] clientsBySlot = new ClientHandler[8];
+    public enum GamePhases {
+        IN_LOBBY, IN_GAME
+    }
+    private GameEngine gameEngine;
+    private Thread gameEngineThread;
+    private Thread broadcasterThread;
+    public static volatile GamePhases currGamePhase;
+    private ConnectionListener connectionListener;
+
+
+    public static void main(String[] args) throws Exception {
+        Server server = new Server();
+        server.run();
+    }
+
+    /**
+     * Constructs the Server object, initializing the transport, game engine, and listener.
+     * @throws IOException If an error occurs in opening the server socket.
+     */
+    public Server() throws IOException {
+        currGamePhase = GamePhases.IN_LOBBY;
+        connectionListener = new ConnectionListener();
+        transport = new NioTransport(SERVER_PORT, IO_THREADS, OVERFLOW_POLICY, connectionListener);
+        broadcastBuffers = new BufferPool(BROADCAST_BUFFER_SIZE, MAX_IDLE_BROADCAST_BUFFERS);
+        baselineTicks = new int[4];
+        baselineFrames = new SharedFrame[4];
+        snapshotExchange = new SnapshotExchange(64);
+        gameEngine = new GameEngine();
+        gameEngineThread = new Thread(gameEngine);
+        broadcasterThread = new Thread(new SnapshotBroadcaster(), "snapshot-broadcaster");
+    }
+
+    public void run() {
+        System.out.println("Starting the server...");
+        System.out.println("Waiting for a connection request from a client...");
+        transport.start(); // Start the acceptor and I/O threads
+    }
+
+    /**
+     * broadcast
+     * sends the snapshot of a tick to every client as a delta against the last snapshot that client acknowledged.
+     * Clients that share a baseline share one frame, so each distinct baseline is only encoded once, and clients
+     * whose baseline is too old or who never acknowledged one get the full snapshot.
+     * @param current The snapshot of this tick
+     * @param history The snapshots of the previous ticks
+     */
+    private void broadcast(Snapshot current, SnapshotHistory history) {
+        int groups = 0;
+        for (ClientHandler client : syncClientsMap.values()) {
+            Snapshot baseline = history.get(client.getAckedTick());
+            int baselineTick = (baseline == null) ? 0 : baseline.getTick();
+
+            int group = 0;
+            while ((group < groups) && (baselineTicks[group] != baselineTick)) {
+                group++;
+            }
+            if (group == groups) {
+                if (groups == baselineTicks.length) {
+                    baselineTicks = Arrays.copyOf(baselineTicks, groups * 2);
+                    baselineFrames = Arrays.copyOf(baselineFrames, groups * 2);
+                }
+                SharedFrame frame = broadcastBuffers.acquire(ProtocolCodec.maxSnapshotSize(current, baseline));
+                ProtocolCodec.encodeSnapshot(current, baseline, frame.getBuffer());
+                baselineTicks[group] = baselineTick;
+                baselineFrames[group] = frame;
+                groups++;
+            }
+            client.sendSnapshot(baselineFrames[group]);
+        }
+        for (int group = 0; group < groups; group++) {
+            baselineFrames[group].release(); // the clients hold their own references now
+            baselineFrames[group] = null;
+        }
+    }
+
+    /**
+     * broadcastEffects
+     * sends the explosions and swings of a tick to every client in one shared frame, right after the snapshot of
+     * that tick so an effect never shows up before the objects it hit have moved
+     * @param current The published snapshot holding the effects
+     */
+    private void broadcastEffects(Snapshot current) {
+        SharedFrame frame = broadcastBuffers.acquire(ProtocolCodec.maxEffectsSize(current));
+        ProtocolCodec.encodeEffects(current, frame.getBuffer());
+        for (ClientHandler client : syncClientsMap.values()) {
+            client.send(frame);
+        }
+        frame.release();
+    }
+
+    /**
+     * broadcast
+     * sends the same one-off message, such as the map or a state change, to every client
+     * @param message The framed message to be sent
+     */
+    private void broadcast(ByteBuffer message) {
+        SharedFrame frame = new SharedFrame(message, null);
+        for (ClientHandler client : syncClientsMap.values()) {
+            client.send(frame);
+        }
+    }
+
+    /**
+     * getOutboundQueueDepths
+     * the number of frames waiting to be written to each client, for monitoring slow connections
+     * @return Map of client ID to queued frames
+     */
+    public Map<String, Integer> getOutboundQueueDepths() {
+        Map<String, Integer> depths = new TreeMap<>();
+        for (ClientHandler client : syncClientsMap.values()) {
+            depths.put(client.getID(), client.getConnection().getQueuedFrames());
+        }
+        return depths;
+    }
+
+    /**
+     * getLastTickAllocatedBytes
+     * the bytes the last game tick allocated, for spotting garbage that would lead to collection pauses
+     * @return The bytes allocated by the simulation part of the last tick
+     */
+    public long getLastTickAllocatedBytes() {
+        return gameEngine.getLastTickAllocatedBytes();
+    }
+
+    /**
+     * getAttackPools
+     * the pools attacks are reused from, for checking their hit rate and how many attacks were alive at once
+     * @return The attack pools of the game
+     */
+    public AttackPools getAttackPools() {
+        return gameEngine.getAttackPools();
+    }
+
+    /**
+     * getTickScheduler
+     * the scheduler of the game loop, for checking tick duration percentiles, overruns and dropped ticks
+     * @return The tick scheduler of the game
+     */
+    public TickScheduler getTickScheduler() {
+        return gameEngine.getTickScheduler();
+    }
+
+    /**
+     * whisper
+     * Sends a private message to a specific client identified by its handle.
+     * @param message The framed message to be sent.
+     * @param client The handle of the client, nothing is sent if the client has since disconnected.
+     */
+    private void whisper(ByteBuffer message, int client) {
+        ClientHandler handler = null;
+        synchronized (syncClientsMap) {
+            if (clientHandles.isLive(client)) {
+                handler = clientsBySlot[HandleAllocator.slotOf(client)];
+            }
+        }
+        if (handler != null) {
+            handler.send(message);
+        }
+    }
+
+    /**
+     * initateGame
+     * Initiates the game by setting up the map
+     */
+    private void initiateGame() {
+        this.gameEngine.initiateMap();
+        this.gameEngine.broadcastMap();
+        currGamePhase = GamePhases.IN_GAME;
+        broadcasterThread.start();
+        gameEngineThread.start();
+    }
+
+    /**
+     * reserGame
+     * used to reset the game for next matches
+     */
+    private void resetGame() {
+        this.gameEngine.wipeMap();
+    }
+
+    /**
+     * checkGameState
+     * checks if all client have told that they are ready, if so then they will
+     */
+    private void checkGameState() {
+        boolean everyoneReady = true;
+
+        for (ClientHandler currClient : syncClientsMap.values()) {
+            if (!currClient.getReady()) {
+                everyoneReady = false;
+                break; // break since someone isnt ready no point in looping
+            }
+        }
+
+        if (everyoneReady) {
+            initiateGame();
+        }
+    }
+
+    /**
+     * registerClient
+     * Gives a newly connected client a handle and adds its handler to the client map and the slot table.
+     * @param handler The handler of the new client.
+     */
+    private void registerClient(ClientHandler handler) {
+        synchronized (syncClientsMap) { // two I/O threads could otherwise hand out the same handle
+            int client = clientHandles.allocate();
+            int slot = HandleAllocator.slotOf(client);
+            if (slot >= clientsBySlot.length) {
+                clientsBySlot = Arrays.copyOf(clientsBySlot, Math.max(slot + 1, clientsBySlot.length * 2));
+            }
+            clientsBySlot[slot] = handler;
+            handler.setHandle(client);
+            syncClientsMap.put(handler.getConnection(), handler);
+        }
+    }
+
+    /**
+     * disconnectClient
+     * Disconnects a client, removes their handler from the client map and frees their handle.
+     * @param client The ClientHandler of the client to disconnect.
+     */
+    private void disconnectClient(ClientHandler client) {
+        client.getConnection().close();
+        synchronized (syncClientsMap) {
+            if (syncClientsMap.remove(client.getConnection()) != null) {
+                clientsBySlot[client.getNumber()] = null;
+                clientHandles.release(client.getHandle());
+            }
+        }
+
+        if (this.syncClientsMap.isEmpty()) {
+            System.exit(0);
+        }
+    }
+
+
+// =============================================================================================================
+
+    /**
+     * [ConnectionListener]
+     * Class is responsible for receiving and then connecting clients to the server.
+     * Its methods are called by the transport's I/O threads, so none of them may block.
+     * @author Michael Khart
+     * @version 1.0, 01,22,2024A
+     */
+    class ConnectionListener implements TransportListener {
+
+        /**
+         * onHandshake
+         * Sets up a handler for a newly connected client and gives it a new id.
+         * @param connection The connection of the new client.
+         */
+        @Override
+        public void onHandshake(Connection connection) {
+            if (!currGamePhase.equals(GamePhases.IN_LOBBY)) {
+                connection.close(); // the match has already started
+                return;
+            }
+            System.out.println("New client");
+
+            ClientHandler handler = new ClientHandler(connection);
+            registerClient(handler);
+            whisper(ProtocolCodec.encodeWelcome(handler.getNumber()), handler.getHandle());
+        }
+
+        /**
+         * onFrame
+         * Decodes a request from a client and hands it to that client's handler.
+         * @param connection The connection the request arrived on.
+         * @param payload The request frame.
+         */
+        @Override
+        public void onFrame(Connection connection, ByteBuffer payload) {
+            ClientHandler handler = syncClientsMap.get(connection);
+            if (handler == null) {
+                return;
+            }
+            try {
+                if (ProtocolCodec.isAck(payload)) {
+                    handler.acknowledge(ProtocolCodec.decodeAck(payload));
+                } else {
+                    handler.handleRequest(ProtocolCodec.decodeRequest(payload, handler.getID()));
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                connection.close();
+            }
+        }
+
+        /**
+         * onDisconnect
+         * Removes the handler of a client whose connection was closed.
+         * @param connection The closed connection.
+         */
+        @Override
+        public void onDisconnect(Connection connection) {
+            ClientHandler handler = syncClientsMap.get(connection);
+            if (handler != null) {
+                disconnectClient(handler);
+            }
+        }
+    }
+
+// =============================================================================================================
+
+    /**
+     * ClientHandler
+     * The clientHandler class is responsible for helping smooth the communication and request handling between
+     * the server and several clients. It no longer owns a thread, requests are handed to it by the transport.
+     * @author Michael Khart
+     * @version 1.0, 01/22/2024
+     */
+    class ClientHandler {
+        private Connection connection;
+        private int handle; // the client's slot and generation, the engine finds the client's avatar by it
+        private String ID; // "C-" followed by the slot, for display
+        private boolean ready;
+        private volatile int ackedTick; // 0 until the client acknowledges a snapshot, so it starts with a full one
+
+        /**
+         * ClientHandler
+         * Constructor for the ClientHandler
+         * @param connection The connection between this and the Client.
+         */
+        public ClientHandler(Connection connection) {
+            this.connection = connection;
+            ready = false;
+        }
+
+        /**
+         * handleRequest
+         * This method will see what type of action the client is trying to do and act accordingly.
+         * @param request The request object the clients have sent
+         */
+        private void handleRequest(ClientRequest request) {
+            RequestType requestType = request.getRequestType();
+
+            // if we are in lobby, we only take in some requests/actions
+            if (currGamePhase.equals(GamePhases.IN_LOBBY)) {
+                synchronized (Server.this) { // the engine is not running yet, clients on other I/O threads take turns
+                    if (requestType instanceof GameWindowType) {
+                        GameWindowType requestCast = ((GameWindowType) requestType);
+                        GameWindowSubtype requestCastSubtype = (GameWindowSubtype) requestCast.getSubtype();
+
+                        if (requestCastSubtype.equals(GameWindowSubtype.CHARACTER_CHOSEN)) {
+                            // will create a empty class object
+                            Class<?> clazz;
+                            Avatar requestAvatarInstance = null;
+                            try {
+                                clazz = requestCast.getAvatarClass();
+                                requestAvatarInstance = (Avatar) clazz.newInstance();
+                            } catch (java.lang.InstantiationException | java.lang.IllegalAccessException e) {
+                                e.printStackTrace();
+                            }
+
+                            // depending on the requests chosen avatar type, we create that avatar instance
+                            if (requestAvatarInstance != null) {
+                                Avatar clientAvatar;
+                                if (requestAvatarInstance instanceof Norman) {
+                                    clientAvatar = new Norman(String.valueOf(getNumber()));
+                                    gameEngine.addAvatar(handle, clientAvatar);
+                                } else if (requestAvatarInstance instanceof Titan) {
+                                    clientAvatar = new Titan(String.valueOf(getNumber()));
+                                    gameEngine.addAvatar(handle, clientAvatar);
+                                } else {
+                                    clientAvatar = new Goblino(String.valueOf(getNumber()));
+                                    gameEngine.addAvatar(handle, clientAvatar);
+                                }
+
+                            }
+                        // if the client has entered ready then make that client ready (used in seeing if we initate game)
+                        } else if (requestCastSubtype.equals(GameWindowSubtype.READY)) {
+                            if (gameEngine.getClientAvatar(handle) != null) { // if they have chosen an avatar
+                                this.ready = true;
+                                checkGameState();
+                            }
+                        }
+                    } else if (requestType instanceof NetworkingType) {
+                        // if the client wants to disconnect, let them
+                        NetworkingType requestCast = ((NetworkingType) requestType);
+                        NetworkingSubtype requestCastSubtype = (NetworkingSubtype) requestCast.getSubtype();
+
+                        if (requestCastSubtype.equals(NetworkingSubtype.DISCONNECT)) {
+                            disconnect();
+                        }
+                    }
+                }
+            } else if (currGamePhase.equals(GamePhases.IN_GAME)) {
+                // now that we are in game, inputs are queued for the engine, which applies them on its own thread
+                int client = this.handle;
+
+                // since the client is trying to create a new attack, create an attack based on their current weapon
+                if (requestType instanceof NewActionType) {
+                    NewActionType requestCast = ((NewActionType) requestType);
+                    NewActionSubtype requestCastSubtype = (NewActionSubtype) requestCast.getSubtype();
+                    Vector mousePoint = requestCast.getMousePoint();
+                    if (requestCastSubtype.equals(NewActionSubtype.NEW_ATTACK) && (mousePoint != null)) {
+                        gameEngine.submit(new Command(CommandType.ATTACK, client, mousePoint.getIntX(), mousePoint.getIntY()));
+                    } else if (requestCastSubtype.equals(NewActionSubtype.ULTIMATE_ABILITY)) {
+                        gameEngine.submit(new Command(CommandType.ULTIMATE_ABILITY, client, 0, 0));
+                    }
+
+                // if we want to start a movement ability
+                } else if (requestType instanceof NewAbilityType) {
+                    NewAbilityType requestCast = ((NewAbilityType) requestType);
+                    NewAbilitySubtype requestCastSubtype = (NewAbilitySubtype) requestCast.getSubtype();
+                    if (requestCastSubtype.equals(NewAbilitySubtype.JUMP)) {
+                        gameEngine.submit(new Command(CommandType.JUMP, client, 0, 0));
+                    } else if (requestCastSubtype.equals(NewAbilitySubtype.DASH)) {
+                        gameEngine.submit(new Command(CommandType.DASH, client, 0, 0));
+                    } else if (requestCastSubtype.equals(NewAbilitySubtype.LAUNCH)) {
+                        gameEngine.submit(new Command(CommandType.LAUNCH, client, 0, 0));
+                    }
+
+                // if the client is starting to move in a certain direction
+                } else if (requestType instanceof StartActionType) {
+                    StartActionType requestCast = ((StartActionType) requestType);
+                    StartActionSubtype requestCastSubtype = (StartActionSubtype) requestCast.getSubtype();
+                    if (requestCastSubtype.equals(StartActionSubtype.START_MOVING_RIGHT)) {
+                        gameEngine.submit(new Command(CommandType.MOVE_RIGHT, client, 0, 0));
+                    } else if (requestCastSubtype.equals(StartActionSubtype.START_MOVING_LEFT)) {
+                        gameEngine.submit(new Command(CommandType.MOVE_LEFT, client, 0, 0));
+                    }
+
+                // if the client is trying to disconnect,
+                } else if (requestType instanceof NetworkingType) {
+                    NetworkingType requestCast = ((NetworkingType) requestType);
+                    NetworkingSubtype requestCastSubtype = (NetworkingSubtype) requestCast.getSubtype();
+                    if (requestCastSubtype.equals(NetworkingSubtype.UPDATE_REQUESTED)) {
+                        // nothing to do, every snapshot already carries every object
+                    } else if (requestCastSubtype.equals(NetworkingSubtype.DISCONNECT)) {
+                        disconnect();
+                    }
+
+                // switch their current weapon
+                } else if (requestType instanceof OtherType) {
+                    OtherType requestCast = ((OtherType) requestType);
+                    OtherSubtype requestCastSubtype = (OtherSubtype) requestCast.getSubtype();
+                    WeaponHolster weapon;
+                    if (requestCastSubtype.equals(OtherSubtype.KEY_1)) {
+                        weapon = WeaponHolster.MELEE;
+                    } else if (requestCastSubtype.equals(OtherSubtype.KEY_2)) {
+                        weapon = WeaponHolster.GUN;
+                    } else {
+                        weapon = WeaponHolster.RPG;
+                    }
+                    gameEngine.submit(new Command(CommandType.SWITCH_WEAPON, client, weapon.ordinal(), 0));
+                }
+            }
+        }
+
+        /**
+         * send
+         * queues a framed message to be sent to the client, never blocking the caller.
+         * @param frame The message we are sending
+         */
+        public void send(ByteBuffer frame) {
+            connection.send(frame);
+        }
+
+        /**
+         * send
+         * queues a frame shared with other clients, never blocking the caller.
+         * @param frame The shared frame we are sending
+         */
+        public void send(SharedFrame frame) {
+            connection.send(frame);
+        }
+
+        /**
+         * sendSnapshot
+         * queues a snapshot frame, which may be replaced by a newer one if the client falls behind.
+         * @param frame The shared snapshot frame
+         */
+        public void sendSnapshot(SharedFrame frame) {
+            connection.sendSnapshot(frame);
+        }
+
+        /**
+         * acknowledge
+         * records that the client has received a snapshot, later snapshots are encoded against it.
+         * @param tick The tick of the acknowledged snapshot
+         */
+        private void acknowledge(int tick) {
+            if (tick > ackedTick) {
+                ackedTick = tick;
+            }
+        }
+
+        /**
+         * disconnect
+         * Disconnects this client and handler from the server
+         */
+        private void disconnect() {
+            disconnectClient(this);
+        }
+
+        /*
+        ============================
+        getters and setters
+        ============================
+         */
+
+        public Connection getConnection() {
+            return connection;
+        }
+
+        public String getID() {
+            return ID;
+        }
+        public int getHandle() {
+            return handle;
+        }
+        public int getNumber() {
+            return HandleAllocator.slotOf(handle); // the number of the client's avatar as well
+        }
+        public void setHandle(int handle) {
+            this.handle = handle;
+            this.ID = "C-" + HandleAllocator.slotOf(handle);
+        }
+        public boolean getReady() {
+            return ready;
+        }
+        public int getAckedTick() {
+            return ackedTick;
+        }
+    }
+
+// =============================================================================================================
+
+    /**
+     * [SnapshotBroadcaster]
+     * Encodes and sends the snapshot of each tick on its own thread while the engine simulates the next one, so a
+     * tick costs the longer of simulating and broadcasting rather than both. If encoding falls behind, the ticks
+     * in between are skipped and the clients get the newest one, encoded against whatever they last acknowledged.
+     * @author Michael Khart
+     * @version 1.0, October 18, 2026
+     */
+    class SnapshotBroadcaster implements Runnable {
+        private final SnapshotHistory snapshotHistory;
+
+        public SnapshotBroadcaster() {
+            this.snapshotHistory = new SnapshotHistory(SNAPSHOT_HISTORY, 64);
+        }
+
+        @Override
+        public void run() {
+            while (currGamePhase.equals(GamePhases.IN_GAME)) {
+                Snapshot published = snapshotExchange.take(BROADCAST_POLL_NANOS);
+                if (published != null) {
+                    // keep a copy as a future baseline, the published one goes back to the engine on the next take
+                    Snapshot currentSnapshot = snapshotHistory.next(published.getTick());
+                    currentSnapshot.copyFrom(published, published.getTick());
+                    currentSnapshot.sort();
+                    broadcast(currentSnapshot, snapshotHistory);
+                    if (published.getEffectCount() > 0) {
+                        broadcastEffects(published);
+                    }
+                }
+            }
+        }
+    }
+
+// =============================================================================================================
+
+    /**
+     * [GameEngine]
+     * This class is responsible for doing in game caluclations like moving all entities, calculating and
+     * handling collisions, etc.
+     * @author Michael Khart
+     * @version 1.0  01,22,2024
+     */
+    class GameEngine implements Runnable, GameConstants, AttackConstants, PrefixConstants, CollisionConstants {
+        private Point playerRespawnPoint;
+        private List<Point> enemySpawnPoints;
+        private List<Avatar> syncAvatars;
+        private List<Enemy> syncEnemies;
+        private List<Attacks> syncAttacks;
+        private List<Interactable> syncInteractables;
+        private StaticBvh staticColliders; // the walls, built once per map
+        private TriggerVolumes triggerVolumes; // the hazards and power-ups, which are touched rather than bumped into
+        private SpatialGrid dynamicGrid; // avatars and enemies, rebuilt on the ticks an instant attack is settled
+        private SweepAndPrune broadphase; // finds the moving objects that overlap each other
+        private EntityStore entities; // the per tick state of every avatar, enemy and attack in packed arrays
+        private int[] clientAvatars; // handle of the avatar of each client slot, looked up by applyCommands
+        private int[] avatarClients; // handle of the client each of those avatars was picked by
+        private HandleAllocator enemyNumbers; // numbers of the enemy IDs, reused once an enemy dies
+        private AttackPools attackPools; // attacks are released here when removed and reused by the next ones
+        private ParallelNarrowphase narrowphase; // checks the pairs of the broadphase and the map on several threads
+        private ParallelEnemyAi enemyAi; // lets the enemies think on several threads
+        private WorldView world; // what the enemies see while they think
+        // scratch space reused every tick
+        private List<Attacks> attacksToRemove;
+        private List<Attacks> newAttacks;
+        private List<Attacks> instantAttacks; // explosions and swings made this tick, settled once everything moved
+        private int nextEffect; // number of the next effect, so effects still shown on the clients never share a key
+        private List<Alive> reached;
+        private com.sun.management.ThreadMXBean allocationCounter; // null when the JVM cannot count allocations
+        private volatile long lastTickAllocatedBytes;
+        private TickScheduler tickScheduler; // when ticks are due, and how long they took
+        private Queue<Command> commands; // filled by the I/O threads, drained by the engine at the start of a tick
+        private boolean[] interactablesActive; // what the clients were last told, indexed like syncInteractables
+        private int tick;
+
+        /**
+         * Constructor for GameEngine
+         * Initiates needed collections
+         */
+        public GameEngine() {
+            this.enemySpawnPoints = new ArrayList<>(4);
+            // only the engine thread touches these once the game has started, so they need no locking
+            this.syncAvatars = new ArrayList<>(4);
+            this.syncEnemies = new ArrayList<>(8);
+            this.syncAttacks  = new ArrayList<>();
+            this.syncInteractables = new ArrayList<>(30);
+            this.commands = new ConcurrentLinkedQueue<>();
+            this.dynamicGrid = new SpatialGrid(SPATIAL_CELL_SIZE, SPATIAL_BUCKETS);
+            this.broadphase = new SweepAndPrune(64);
+            this.entities = new EntityStore(64);
+            indexMap();
+            this.clientAvatars = new int[8];
+            this.avatarClients = new int[8];
+            Arrays.fill(this.avatarClients, HandleAllocator.NONE);
+            this.enemyNumbers = new HandleAllocator(8);
+            this.attackPools = new AttackPools(ATTACK_POOL_SIZE);
+            ForkJoinPool workers = (WORKER_THREADS > 1) ? new ForkJoinPool(WORKER_THREADS) : null;
+            this.narrowphase = new ParallelNarrowphase(workers, PARALLEL_COLLISION_THRESHOLD);
+            this.enemyAi = new ParallelEnemyAi(workers, PARALLEL_AI_THRESHOLD, PROXIMITY_RADIUS);
+            this.world = new WorldView();
+            this.tickScheduler = new TickScheduler(TICK_RATE, MAX_CATCH_UP_TICKS, TICK_DURATION_SAMPLES);
+            GameClock.start(TICK_RATE);
+            this.attacksToRemove = new ArrayList<>();
+            this.newAttacks = new ArrayList<>();
+            this.instantAttacks = new ArrayList<>();
+            this.reached = new ArrayList<>();
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if ((threads instanceof com.sun.management.ThreadMXBean)
+                    && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+                this.allocationCounter = (com.sun.management.ThreadMXBean) threads;
+                this.allocationCounter.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+
+
+        /**
+         * initiateMap
+         * Reads a save file and uploads saved data into data collections
+         */
+        public void initiateMap() {
+            String mapSave = "Save1";
+            Scanner fileReader = null;
+            try {
+                fileReader = new Scanner(new File("src/saving/" + mapSave + ".txt"));
+            } catch(FileNotFoundException e) {
+                e.printStackTrace();
+            }
+            // first line in save is the player respawn point
+            playerRespawnPoint = new Point(fileReader.nextInt(), fileReader.nextInt());
+
+            for (Avatar avatar : syncAvatars) {
+                avatar.getHitbox().setIntX(playerRespawnPoint.x);
+                avatar.getHitbox().setIntY(playerRespawnPoint.y);
+            }
+            fileReader.nextLine();
+
+            // sets enemy respawnPoints
+            String[] enemySpawnPoints =  fileReader.nextLine().split(" ");
+            for (int i = 0; i < enemySpawnPoints.length; i += 2) {
+                this.enemySpawnPoints.add(new Point(Integer.parseInt(enemySpawnPoints[i]), Integer.parseInt(enemySpawnPoints[i + 1])));
+            }
+            while (fileReader.hasNext()) {
+                String objectType = fileReader.next();
+                // turns saved data into objects and adds them to collections
+                switch (objectType) {
+                    case "Wall" :
+                        this.syncInteractables.add(new Wall(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt())));
+                        break;
+                    case "Hazard" :
+                        this.syncInteractables.add(new Hazard(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt()), fileReader.nextInt()));
+                        break;
+                    case "PowerUp":
+                        this.syncInteractables.add(new PowerUp(fileReader.next(), new Hitbox(fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt(), fileReader.nextInt()), PowerUp.BoostType.valueOf(fileReader.next()), fileReader.nextDouble()));
+                        break;
+
+                }
+            }
+            indexMap();
+        }
+
+        /**
+         * indexMap
+         * Splits the interactables of the map into the walls, which stop whatever runs into them, and the triggers,
+         * which send events to whatever touches them, and indexes each
+         */
+        private void indexMap() {
+            List<Interactable> walls = new ArrayList<>();
+            List<Interactable> triggers = new ArrayList<>();
+            for (Interactable interactable : syncInteractables) {
+                if (interactable.getCategory() == CATEGORY_TRIGGER) {
+                    triggers.add(interactable);
+                } else {
+                    walls.add(interactable);
+                }
+            }
+            staticColliders = new StaticBvh(walls);
+            triggerVolumes = new TriggerVolumes(triggers, entities);
+        }
+
+
+        /**
+         * Run
+         * This method acts as the main game loop, running every tick that is due on a fixed timestep
+         */
+        @Override
+        public void run() {
+            while (currGamePhase.equals(GamePhases.IN_GAME)) {
+                int dueTicks;
+                try {
+                    dueTicks = tickScheduler.awaitTicks();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; (i < dueTicks) && currGamePhase.equals(GamePhases.IN_GAME); i++) {
+                    tickScheduler.beginTick();
+                    step();
+                    tickScheduler.endTick();
+                }
+            }
+        }
+
+        /**
+         * step
+         * Runs one tick of the game, where objects are moved, collisions handled and the result published.
+         * Package-private so tests can run ticks one at a time without the tick scheduler
+         */
+        void step() {
+            long allocatedBefore = allocatedBytes();
+            GameClock.advance(); // every cooldown and timer this tick reads this time, timed effects that ran out fire here
+            applyCommands();
+
+            // Moves all the objects that can move, remembering where they started so collisions can be swept
+            // the tick runs on indexes and reused lists so a tick without new objects allocates nothing
+            markPreviousPositions();
+            for (int i = 0; i < syncAvatars.size(); i++) {
+                syncAvatars.get(i).move();
+            }
+            attacksToRemove.clear();
+            entities.integrateProjectiles(BULLET_DROP); // projectiles only ever move here, straight from the packed arrays
+
+
+            // enemies decide what to do in parallel against the avatars as they stand now, then move one at a time
+            world.capture(syncAvatars, staticColliders);
+            enemyAi.think(syncEnemies, world);
+            for (int i = 0; i < syncEnemies.size(); i++) {
+                syncEnemies.get(i).act();
+            }
+
+            // handle the collisions between moving objects first, the broadphase only hands back overlapping pairs.
+            // The swept tests run in parallel, the contacts come back in pair order and are applied here in that order
+            broadphase.beginUpdate();
+            broadphase.include(syncAvatars);
+            broadphase.include(syncEnemies);
+            broadphase.include(syncAttacks);
+            broadphase.findPairs();
+            int contacts = narrowphase.findContacts(broadphase);
+            for (int contact = 0; contact < contacts; contact++) {
+                int pair = narrowphase.getContact(contact);
+                handleCollisionPair(broadphase.getFirst(pair), broadphase.getSecond(pair), attacksToRemove);
+            }
+
+            // then against the walls, in the order the path of each object reached them
+            narrowphase.sweepStatic(syncAvatars, staticColliders, Interactable.class);
+            for (int i = 0; i < syncAvatars.size(); i++) {
+                Avatar avatar = syncAvatars.get(i);
+                for (int hit = 0; hit < narrowphase.getHitCount(i); hit++) {
+                    // an earlier correction may have moved the avatar out of the way
+                    if (avatar.getHitbox().timeOfImpact(narrowphase.getHit(i, hit).getHitbox()) >= 0) {
+                        avatar.handleCollision(narrowphase.getHit(i, hit));
+                    }
+                }
+            }
+            narrowphase.sweepStatic(syncEnemies, staticColliders, Interactable.class);
+            for (int i = 0; i < syncEnemies.size(); i++) {
+                Enemy enemy = syncEnemies.get(i);
+                for (int hit = 0; hit < narrowphase.getHitCount(i); hit++) {
+                    if (enemy.getHitbox().timeOfImpact(narrowphase.getHit(i, hit).getHitbox()) >= 0) {
+                        enemy.handleCollision(narrowphase.getHit(i, hit));
+                    }
+                }
+            }
+            // once every wall has stopped them, tell the hazards and power-ups who started, kept on or stopped touching them
+            triggerVolumes.include(syncAvatars);
+            triggerVolumes.include(syncEnemies);
+            triggerVolumes.finish();
+
+            // projectiles are never swept against the walls here, when they land was worked out when they were fired
+            newAttacks.clear();
+            for (int i = 0; i < syncAttacks.size(); i++) {
+                Attacks attack = syncAttacks.get(i);
+                if (attack.hasLanded() && !attacksToRemove.contains(attack)) { // one that hit an avatar first is gone
+                    double landingTime = attack.getLandingTime();
+                    if (landingTime >= 0) { // reached a wall rather than leaving the map
+                        // stop at the first wall in the way, not wherever the projectile ended up
+                        attack.getHitbox().moveToImpact(landingTime);
+                        Attacks impact = attack.impact(attackPools); // rockets explode
+                        if (impact != null) {
+                            newAttacks.add(impact);
+                        }
+                    }
+                    attacksToRemove.add(attack);
+                }
+            }
+            for (int i = 0; i < newAttacks.size(); i++) {
+                addAttack(newAttacks.get(i));
+            }
+            settleInstantAttacks();
+
+            // removes unneeded things and respawns avatars/enemies if they died
+            if (!attacksToRemove.isEmpty()) {
+                syncAttacks.removeAll(attacksToRemove);
+                for (int i = 0; i < attacksToRemove.size(); i++) {
+                    entities.remove(attacksToRemove.get(i));
+                    attackPools.release(attacksToRemove.get(i));
+                }
+            }
+            for (int i = syncEnemies.size() - 1; i >= 0; i--) {
+                if (syncEnemies.get(i).getHealth() < 0) {
+                    Enemy enemy = syncEnemies.remove(i);
+                    entities.remove(enemy);
+                    enemyNumbers.release(enemyNumbers.handleOf(enemy.getNumber()));
+                }
+            }
+            for (int i = 0; i < syncAvatars.size(); i++) {
+                Avatar avatar = syncAvatars.get(i);
+                if (avatar.getHealth() < 0) {
+                    avatar.respawn(this.playerRespawnPoint);
+                }
+            }
+
+            tick++;
+            this.broadcastUpdated();
+            lastTickAllocatedBytes = allocatedBytes() - allocatedBefore;
+        }
+
+
+        /**
+         * handleCollisionPair
+         * Applies a contact between two moving objects whose paths overlapped this tick through the handler of their
+         * collision categories. Avatars are hit by attacks of other avatars and by enemies, enemies are hit by
+         * attacks, and the broadphase already dropped every other pair. Only speeds and health change here, never
+         * positions, so every contact found at the start stays valid. An attack already used up this tick hits
+         * nothing else.
+         * @param first One object of the pair
+         * @param second The other object of the pair
+         * @param attacksToRemove The attacks used up this tick
+         */
+        private void handleCollisionPair(GameObject first, GameObject second, List<Attacks> attacksToRemove) {
+            if (attacksToRemove.contains(first) || attacksToRemove.contains(second)) {
+                return;
+            }
+            GameObject usedUp = CollisionDispatch.collide(first, second);
+            if (usedUp != null) { // only attacks are ever used up
+                attacksToRemove.add((Attacks) usedUp);
+            }
+        }
+
+        /**
+         * submit
+         * Queues a client's input to be applied at the start of the next tick. Safe to call from any thread.
+         * @param command The input of the client
+         */
+        public void submit(Command command) {
+            commands.add(command);
+        }
+
+        /**
+         * applyCommands
+         * Applies every input that was queued since the last tick, in the order it arrived.
+         */
+        private void applyCommands() {
+            Command command;
+            while ((command = commands.poll()) != null) {
+                Avatar clientsAvatar = getClientAvatar(command.getClient());
+                if (clientsAvatar == null) {
+                    continue; // the client disconnected or never picked an avatar
+                }
+                switch (command.getType()) {
+                    case ATTACK:
+                        addAttack(clientsAvatar.attack(command.getX(), command.getY(), attackPools));
+                        break;
+                    case ULTIMATE_ABILITY:
+                        Attacks ultimate = clientsAvatar.ultimateAbility(attackPools);
+                        if (ultimate != null) { // null while the ultimate is not charged
+                            addAttack(ultimate);
+                        }
+                        break;
+                    case JUMP:
+                        clientsAvatar.jump();
+                        break;
+                    case DASH:
+                        clientsAvatar.dash();
+                        break;
+                    case LAUNCH:
+                        clientsAvatar.launch();
+                        break;
+                    case MOVE_RIGHT:
+                        if (clientsAvatar.getSpeed().getIntX() < AvatarConstants.MAX_PLAYER_SPEED) {
+                            clientsAvatar.speedUp(Direction.RIGHT);
+                        }
+                        break;
+                    case MOVE_LEFT:
+                        if (clientsAvatar.getSpeed().getIntX() < AvatarConstants.MAX_PLAYER_SPEED) {
+                            clientsAvatar.speedUp(Direction.LEFT);
+                        }
+                        break;
+                    case SWITCH_WEAPON:
+                        WeaponHolster weapon = WeaponHolster.values()[command.getX()];
+                        if (clientsAvatar.getWeaponHolster().getCurrentWeapon().canHolsterWeapon(weapon)) {
+                            clientsAvatar.switchWeapon(weapon);
+                        }
+                        break;
+                }
+            }
+        }
+
+        /**
+         * broadcastMap
+         * Sends the walls, hazards and power-ups to the clients once when the match starts, they never move so
+         * snapshots leave them out and only their state changes are sent afterwards.
+         */
+        public void broadcastMap() {
+            interactablesActive = new boolean[syncInteractables.size()];
+            for (int i = 0; i < interactablesActive.length; i++) {
+                interactablesActive[i] = ProtocolCodec.isActive(syncInteractables.get(i));
+            }
+            broadcast(ProtocolCodec.encodeMapLoad(syncInteractables));
+        }
+
+        /**
+         * broadcastInteractableChanges
+         * Sends a state message for every interactable that was switched on or off since the clients were last told.
+         */
+        private void broadcastInteractableChanges() {
+            for (int i = 0; i < interactablesActive.length; i++) {
+                Interactable interactable = syncInteractables.get(i);
+                boolean active = ProtocolCodec.isActive(interactable);
+                if (active != interactablesActive[i]) {
+                    interactablesActive[i] = active;
+                    broadcast(ProtocolCodec.encodeInteractableState(interactable, active));
+                }
+            }
+        }
+
+        /**
+         * broadcastUpdated
+         * Captures every moving object within the game into this tick's snapshot, along with the instant attacks
+         * settled this tick as effects, and publishes it to the broadcaster, which encodes and sends it while the
+         * next tick is simulated. The instant attacks go back to their pool once recorded.
+         */
+        private void broadcastUpdated() {
+            broadcastInteractableChanges();
+
+            Snapshot currentSnapshot = snapshotExchange.begin(tick);
+            for (int i = 0; i < syncAvatars.size(); i++) {
+                currentSnapshot.add(syncAvatars.get(i));
+            }
+            for (int i = 0; i < syncAttacks.size(); i++) {
+                currentSnapshot.add(syncAttacks.get(i));
+            }
+            for (int i = 0; i < syncEnemies.size(); i++) {
+                currentSnapshot.add(syncEnemies.get(i));
+            }
+            for (int i = 0; i < instantAttacks.size(); i++) {
+                Attacks attack = instantAttacks.get(i);
+                currentSnapshot.addEffect(Snapshot.key(attack.getKind(), nextEffect), attack.getHitbox(), (int) attack.getEffectDuration());
+                nextEffect = (nextEffect + 1) & Integer.MAX_VALUE;
+                attackPools.release(attack);
+            }
+            instantAttacks.clear();
+            snapshotExchange.publish();
+        }
+
+        /**
+         * addAttack
+         * Adds a new attack to the game, gives it a slot in the entity store and works out when a projectile will
+         * land on the map. Instant attacks are held back instead and settled at the end of the tick by
+         * settleInstantAttacks.
+         * @param attack The attack to add
+         */
+        private void addAttack(Attacks attack) {
+            if (attack.isInstant()) {
+                instantAttacks.add(attack);
+                return;
+            }
+            attack.castAgainst(staticColliders);
+            syncAttacks.add(attack);
+            entities.add(attack);
+        }
+
+        /**
+         * settleInstantAttacks
+         * Applies every explosion and swing made this tick with one query of the grid each: everything in the
+         * area that it reaches and can hit is hit once, explosions doing less damage further from their center.
+         * The attacks never take part in the broadphase, they are kept until broadcastUpdated records them as
+         * effects of this tick's snapshot.
+         */
+        private void settleInstantAttacks() {
+            if (instantAttacks.isEmpty()) {
+                return;
+            }
+            rebuildDynamicGrid();
+            for (int i = 0; i < instantAttacks.size(); i++) {
+                Attacks attack = instantAttacks.get(i);
+                reached.clear();
+                dynamicGrid.queryBox(attack.getHitbox(), Alive.class, reached);
+                for (int k = 0; k < reached.size(); k++) {
+                    Alive target = reached.get(k);
+                    if (attack.reaches(target.getHitbox())) {
+                        CollisionDispatch.collide(target, attack);
+                    }
+                }
+            }
+            reached.clear();
+        }
+
+        /**
+         * allocatedBytes
+         * Reads how many bytes the engine thread has allocated so far, used to check that a tick allocates nothing.
+         * @return The bytes allocated by this thread, or 0 if the JVM cannot count them
+         */
+        private long allocatedBytes() {
+            return (allocationCounter == null) ? 0 : allocationCounter.getCurrentThreadAllocatedBytes();
+        }
+
+        /**
+         * markPreviousPositions
+         * Records where every moving object is before this tick moves it.
+         */
+        private void markPreviousPositions() {
+            entities.markPrevious(); // every avatar and attack, straight from the packed arrays
+            for (int i = 0; i < syncEnemies.size(); i++) {
+                syncEnemies.get(i).getHitbox().markPrevious(); // enemies are not added to the store
+            }
+        }
+
+        /**
+         * rebuildDynamicGrid
+         * Records where every avatar and enemy currently is, called after they have moved and before they are queried.
+         */
+        private void rebuildDynamicGrid() {
+            dynamicGrid.clear();
+            for (int i = 0; i < syncAvatars.size(); i++) {
+                dynamicGrid.insert(syncAvatars.get(i));
+            }
+            for (int i = 0; i < syncEnemies.size(); i++) {
+                dynamicGrid.insert(syncEnemies.get(i));
+            }
+        }
+
+        /**
+         * wipeMap
+         * Used to restart the game and wipe all info for the purpose of enabling replayability
+         */
+        public void wipeMap() {
+            this.playerRespawnPoint = null;
+            this.enemySpawnPoints.clear();
+            this.syncAvatars.clear();
+            this.syncEnemies.clear();
+            this.syncInteractables.clear();
+            for (Attacks attack : syncAttacks) {
+                attackPools.release(attack);
+            }
+            this.syncAttacks.clear();
+            this.entities.clear(); // also makes the avatar handles in clientAvatars stale
+            this.enemyNumbers.clear();
+            indexMap();
+            this.dynamicGrid.clear();
+        }
+
+        /**
+         * newEnemyID
+         * Finds a unique unused enemyID within the game to assign to new Enemies, reusing the numbers of dead ones
+         * @return The unique ID
+         */
+        public String newEnemyID() {
+            return String.valueOf(HandleAllocator.slotOf(enemyNumbers.allocate()));
+        }
+
+        /**
+         * getClientAvatar
+         * Finds the avatar a client picked in O(1) through the client's slot.
+         * @param client The handle of the client
+         * @return The avatar, or null if the client has not picked one, has disconnected or the avatar was removed
+         */
+        public Avatar getClientAvatar(int client) {
+            int slot = HandleAllocator.slotOf(client);
+            if ((client < 0) || (slot >= avatarClients.length) || (avatarClients[slot] != client)) {
+                return null;
+            }
+            return (Avatar) entities.resolve(clientAvatars[slot]);
+        }
+
+        // getters and setters
+
+        public void addAvatar(int client, Avatar avatar) {
+            this.syncAvatars.add(avatar);
+            this.entities.add(avatar);
+            int slot = HandleAllocator.slotOf(client);
+            if (slot >= clientAvatars.length) {
+                int oldLength = clientAvatars.length;
+                int length = Math.max(slot + 1, oldLength * 2);
+                clientAvatars = Arrays.copyOf(clientAvatars, length);
+                avatarClients = Arrays.copyOf(avatarClients, length);
+                Arrays.fill(avatarClients, oldLength, length, HandleAllocator.NONE);
+            }
+            clientAvatars[slot] = avatar.getHandle();
+            avatarClients[slot] = client;
+        }
+        public List<Avatar> getSyncAvatars() {
+            return syncAvatars;
+        }
+        /**
+         * getLastTickAllocatedBytes
+         * The bytes the last tick allocated, from applying the commands to publishing the snapshot. It stays at 0 while
+         * nothing is spawned, any more means something in the tick started allocating.
+         * @return The allocated bytes, always 0 if the JVM cannot count them
+         */
+        public long getLastTickAllocatedBytes() {
+            return lastTickAllocatedBytes;
+        }
+        public AttackPools getAttackPools() {
+            return attackPools;
+        }
+        public TickScheduler getTickScheduler() {
+            return tickScheduler;
+        }
+    }
+}
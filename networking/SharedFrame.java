@@ -0,0 +1,66 @@
+package networking;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [SharedFrame.java]
+ * A frame that is encoded once and then queued on many connections at the same time.
+ * Every connection writes from its own read-only view of the same bytes, and the buffer goes back to its
+ * BufferPool once the last connection holding it has finished writing.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class SharedFrame {
+    private final ByteBuffer buffer;
+    private final BufferPool pool;
+    private final AtomicInteger references;
+
+    /**
+     * Constructor for SharedFrame.
+     * Starts with one reference, held by whoever is encoding into it.
+     * @param buffer The buffer to encode into.
+     * @param pool The pool the buffer is returned to, or null if it is not pooled.
+     */
+    SharedFrame(ByteBuffer buffer, BufferPool pool) {
+        this.buffer = buffer;
+        this.pool = pool;
+        this.references = new AtomicInteger(1);
+    }
+
+    /**
+     * view
+     * Creates an independent read-only view of the encoded frame, one per connection.
+     * @return ByteBuffer, positioned at the start of the frame.
+     */
+    public ByteBuffer view() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * retain
+     * Adds a reference, called when the frame is queued on a connection.
+     */
+    public void retain() {
+        references.incrementAndGet();
+    }
+
+    /**
+     * release
+     * Drops a reference and hands the buffer back to its pool when none are left.
+     */
+    public void release() {
+        if ((references.decrementAndGet() == 0) && (pool != null)) {
+            pool.recycle(buffer);
+        }
+    }
+
+    /**
+     * getBuffer
+     * The writable buffer, only to be used by the encoder before the frame is sent.
+     * @return ByteBuffer, the underlying buffer.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,338 @@
+package networking;
+
+import entities.GameObject;
+import entities.HandleAllocator;
+import entities.Hitbox;
+
+import java.util.Arrays;
+
+/**
+ * [Snapshot.java]
+ * The state of every game object the clients can see, captured at the end of one tick.
+ * Objects are stored in flat arrays sorted by key so two snapshots can be compared in a single pass
+ * to find what was spawned, updated and removed between them. Snapshots are reused, never reallocated per tick.
+ * The server fills them from the game objects, the client rebuilds them from the deltas it receives.
+ * The server also records the instant attacks settled during the tick as effects, which are sent once alongside the
+ * snapshot instead of being compared between ticks.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class Snapshot {
+    private static final int INDEX_BITS = 20;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long REMOVED = -1L; // kind codes are positive so no real key is negative
+
+    private int tick;
+    private int count;
+    private long[] keys;
+    private int[] x;
+    private int[] y;
+    private int[] width;
+    private int[] height;
+    private long[] spareKeys; // sort writes into the spare arrays and then swaps them in
+    private int[] spareX;
+    private int[] spareY;
+    private int[] spareWidth;
+    private int[] spareHeight;
+    private long[] sortScratch;
+    private int effectCount;
+    private long[] effectKeys;
+    private int[] effectX;
+    private int[] effectY;
+    private int[] effectWidth;
+    private int[] effectHeight;
+    private int[] effectDuration;
+
+    /**
+     * Constructor for Snapshot.
+     * @param capacity The number of objects to make room for, it grows if needed.
+     */
+    public Snapshot(int capacity) {
+        this.keys = new long[capacity];
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.width = new int[capacity];
+        this.height = new int[capacity];
+        allocateSpares(capacity);
+        allocateEffects(8);
+    }
+
+    /**
+     * key
+     * Builds the key an object is stored under from its kind and number.
+     * @param kind The kind code of the object.
+     * @param number The number of the object, or its handle for objects kept in a store.
+     * @return long, the key.
+     */
+    public static long key(int kind, int number) {
+        return ((long) kind << 32) | (number & 0xFFFFFFFFL);
+    }
+
+    /**
+     * keyOf
+     * The key a game object is stored and sent under. Objects kept in a store are keyed by their handle, so every
+     * bullet and rocket of an avatar gets its own key and an object taking a freed slot shows up as a new one.
+     * @param object The object.
+     * @return long, the key.
+     */
+    public static long keyOf(GameObject object) {
+        int handle = object.getHandle();
+        return key(object.getKind(), (handle == HandleAllocator.NONE) ? object.getNumber() : handle);
+    }
+
+    public static int kindOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    public static int numberOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * clear
+     * Empties the snapshot so it can be filled for a new tick.
+     * @param tick The tick this snapshot will describe.
+     */
+    public void clear(int tick) {
+        this.tick = tick;
+        this.count = 0;
+        this.effectCount = 0;
+    }
+
+    /**
+     * add
+     * Records the current hitbox of a game object.
+     * @param object The object to record.
+     */
+    public void add(GameObject object) {
+        Hitbox hitbox = object.getHitbox();
+        add(keyOf(object), hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+    }
+
+    /**
+     * add
+     * Records the hitbox of an object by its key.
+     * @param key The key of the object.
+     * @param x The x of its hitbox.
+     * @param y The y of its hitbox.
+     * @param width The width of its hitbox.
+     * @param height The height of its hitbox.
+     */
+    public void add(long key, int x, int y, int width, int height) {
+        if (count == keys.length) {
+            grow();
+        }
+        this.keys[count] = key;
+        this.x[count] = x;
+        this.y[count] = y;
+        this.width[count] = width;
+        this.height[count] = height;
+        count++;
+    }
+
+    /**
+     * addEffect
+     * Records an instant attack settled this tick so the clients can show it for its duration.
+     * @param key The key of the effect, unique among the effects still shown.
+     * @param hitbox The area of the effect.
+     * @param duration How long the clients show it for, in milliseconds.
+     */
+    public void addEffect(long key, Hitbox hitbox, int duration) {
+        if (effectCount == effectKeys.length) {
+            growEffects();
+        }
+        this.effectKeys[effectCount] = key;
+        this.effectX[effectCount] = hitbox.x;
+        this.effectY[effectCount] = hitbox.y;
+        this.effectWidth[effectCount] = hitbox.width;
+        this.effectHeight[effectCount] = hitbox.height;
+        this.effectDuration[effectCount] = duration;
+        effectCount++;
+    }
+
+    /**
+     * set
+     * Replaces the hitbox of an object already in the snapshot.
+     * @param index The index of the object.
+     * @param x The new x.
+     * @param y The new y.
+     * @param width The new width.
+     * @param height The new height.
+     */
+    public void set(int index, int x, int y, int width, int height) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+    }
+
+    /**
+     * remove
+     * Marks an object as removed, it is dropped the next time the snapshot is sorted.
+     * @param index The index of the object.
+     */
+    public void remove(int index) {
+        keys[index] = REMOVED;
+    }
+
+    /**
+     * indexOf
+     * Finds an object in a sorted snapshot.
+     * @param key The key of the object.
+     * @return int, the index of the object or a negative number if it is not in the snapshot.
+     */
+    public int indexOf(long key) {
+        return Arrays.binarySearch(keys, 0, count, key);
+    }
+
+    /**
+     * copyFrom
+     * Makes this snapshot an exact copy of another one, used as the starting point of a delta.
+     * @param other The snapshot to copy.
+     * @param tick The tick this snapshot will describe.
+     */
+    public void copyFrom(Snapshot other, int tick) {
+        while (keys.length < other.count) {
+            grow();
+        }
+        System.arraycopy(other.keys, 0, keys, 0, other.count);
+        System.arraycopy(other.x, 0, x, 0, other.count);
+        System.arraycopy(other.y, 0, y, 0, other.count);
+        System.arraycopy(other.width, 0, width, 0, other.count);
+        System.arraycopy(other.height, 0, height, 0, other.count);
+        this.count = other.count;
+        this.effectCount = 0; // effects are sent with the tick that made them, never carried into a delta
+        this.tick = tick;
+    }
+
+    /**
+     * sort
+     * Sorts the recorded objects by key and drops the removed ones. Keys are unique, so no two objects ever
+     * end up in the same place.
+     */
+    public void sort() {
+        int packed = 0;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != REMOVED) {
+                sortScratch[packed++] = (keys[i] << INDEX_BITS) | i;
+            }
+        }
+        Arrays.sort(sortScratch, 0, packed);
+
+        for (int i = 0; i < packed; i++) {
+            int from = (int) (sortScratch[i] & INDEX_MASK);
+            spareKeys[i] = keys[from];
+            spareX[i] = x[from];
+            spareY[i] = y[from];
+            spareWidth[i] = width[from];
+            spareHeight[i] = height[from];
+        }
+        swapSpares();
+        count = packed;
+    }
+
+    private void swapSpares() {
+        long[] swapKeys = keys;
+        keys = spareKeys;
+        spareKeys = swapKeys;
+        int[] swap = x;
+        x = spareX;
+        spareX = swap;
+        swap = y;
+        y = spareY;
+        spareY = swap;
+        swap = width;
+        width = spareWidth;
+        spareWidth = swap;
+        swap = height;
+        height = spareHeight;
+        spareHeight = swap;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, keys.length * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        allocateSpares(capacity);
+    }
+
+    private void allocateSpares(int capacity) {
+        spareKeys = new long[capacity];
+        spareX = new int[capacity];
+        spareY = new int[capacity];
+        spareWidth = new int[capacity];
+        spareHeight = new int[capacity];
+        sortScratch = new long[capacity];
+    }
+
+    private void growEffects() {
+        int capacity = effectKeys.length * 2;
+        effectKeys = Arrays.copyOf(effectKeys, capacity);
+        effectX = Arrays.copyOf(effectX, capacity);
+        effectY = Arrays.copyOf(effectY, capacity);
+        effectWidth = Arrays.copyOf(effectWidth, capacity);
+        effectHeight = Arrays.copyOf(effectHeight, capacity);
+        effectDuration = Arrays.copyOf(effectDuration, capacity);
+    }
+
+    private void allocateEffects(int capacity) {
+        effectKeys = new long[capacity];
+        effectX = new int[capacity];
+        effectY = new int[capacity];
+        effectWidth = new int[capacity];
+        effectHeight = new int[capacity];
+        effectDuration = new int[capacity];
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public int getTick() {
+        return tick;
+    }
+    public int getCount() {
+        return count;
+    }
+    public long getKey(int index) {
+        return keys[index];
+    }
+    public int getX(int index) {
+        return x[index];
+    }
+    public int getY(int index) {
+        return y[index];
+    }
+    public int getWidth(int index) {
+        return width[index];
+    }
+    public int getHeight(int index) {
+        return height[index];
+    }
+    public int getEffectCount() {
+        return effectCount;
+    }
+    public long getEffectKey(int index) {
+        return effectKeys[index];
+    }
+    public int getEffectX(int index) {
+        return effectX[index];
+    }
+    public int getEffectY(int index) {
+        return effectY[index];
+    }
+    public int getEffectWidth(int index) {
+        return effectWidth[index];
+    }
+    public int getEffectHeight(int index) {
+        return effectHeight[index];
+    }
+    public int getEffectDuration(int index) {
+        return effectDuration[index];
+    }
+}
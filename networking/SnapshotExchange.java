@@ -0,0 +1,78 @@
+package networking;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * [SnapshotExchange.java]
+ * Hands the snapshot of every tick from the engine thread to the broadcaster thread without either one waiting
+ * for the other. Three snapshots take turns: the engine fills one, one waits to be picked up and the broadcaster
+ * reads the last. Publishing swaps the filled snapshot with the waiting one, so a snapshot is never written while
+ * the broadcaster reads it, and a broadcaster that falls behind skips straight to the newest tick.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class SnapshotExchange {
+    private final AtomicReference<Snapshot> waiting;
+    private Snapshot filling; // only touched by the engine thread
+    private Snapshot reading; // only touched by the broadcaster thread
+    private int lastTaken; // tick of the last snapshot handed to the broadcaster
+    private volatile Thread reader;
+
+    /**
+     * Constructor for SnapshotExchange.
+     * @param capacity The number of objects each snapshot starts with room for.
+     */
+    public SnapshotExchange(int capacity) {
+        this.waiting = new AtomicReference<>(new Snapshot(capacity));
+        this.filling = new Snapshot(capacity);
+        this.reading = new Snapshot(capacity);
+    }
+
+    /**
+     * begin
+     * Empties the snapshot the engine fills next. Engine thread only.
+     * @param tick The tick that is about to be recorded, ticks must keep increasing.
+     * @return Snapshot, the snapshot to fill.
+     */
+    public Snapshot begin(int tick) {
+        filling.clear(tick);
+        return filling;
+    }
+
+    /**
+     * publish
+     * Hands the filled snapshot over, replacing one the broadcaster has not picked up yet. Engine thread only.
+     */
+    public void publish() {
+        filling = waiting.getAndSet(filling);
+        Thread waitingReader = reader;
+        if (waitingReader != null) {
+            LockSupport.unpark(waitingReader);
+        }
+    }
+
+    /**
+     * take
+     * Waits for a snapshot newer than the last one taken. Broadcaster thread only. The snapshot belongs to the
+     * broadcaster until the next call.
+     * @param timeoutNanos How long to wait at most.
+     * @return Snapshot, the newest snapshot, or null if none was published in time.
+     */
+    public Snapshot take(long timeoutNanos) {
+        reader = Thread.currentThread();
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            reading = waiting.getAndSet(reading);
+            if (reading.getTick() > lastTaken) {
+                lastTaken = reading.getTick();
+                return reading;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package networking;
+
+/**
+ * [SnapshotHistory.java]
+ * A ring of the most recent snapshots, indexed by tick.
+ * The server keeps one to encode deltas against whichever tick a client last acknowledged, and the client keeps
+ * one to rebuild full snapshots from those deltas. A tick that has fallen out of the ring can no longer be used
+ * as a baseline, so the server sends a full snapshot instead.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class SnapshotHistory {
+    private final Snapshot[] snapshots;
+
+    /**
+     * Constructor for SnapshotHistory.
+     * @param size The number of ticks to remember.
+     * @param capacity The number of objects each snapshot starts with room for.
+     */
+    public SnapshotHistory(int size, int capacity) {
+        this.snapshots = new Snapshot[size];
+        for (int i = 0; i < size; i++) {
+            snapshots[i] = new Snapshot(capacity);
+        }
+    }
+
+    /**
+     * next
+     * Takes the slot of a new tick, overwriting the oldest snapshot in the ring.
+     * @param tick The tick that is about to be recorded.
+     * @return Snapshot, the emptied snapshot for that tick.
+     */
+    public Snapshot next(int tick) {
+        Snapshot snapshot = snapshots[Math.floorMod(tick, snapshots.length)];
+        snapshot.clear(tick);
+        return snapshot;
+    }
+
+    /**
+     * get
+     * Finds the snapshot of a tick if it is still remembered.
+     * @param tick The tick to look for.
+     * @return Snapshot, the snapshot of that tick or null if it was overwritten or never recorded.
+     */
+    public Snapshot get(int tick) {
+        if (tick <= 0) {
+            return null;
+        }
+        Snapshot snapshot = snapshots[Math.floorMod(tick, snapshots.length)];
+        return (snapshot.getTick() == tick) ? snapshot : null;
+    }
+}
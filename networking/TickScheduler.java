@@ -0,0 +1,128 @@
+package networking;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [TickScheduler.java]
+ * Keeps the game loop on a fixed timestep measured with System.nanoTime. Tick deadlines are laid out one period
+ * apart from the first tick onwards, so the time a tick takes comes out of the wait before the next one instead
+ * of being added to it, and the game runs at the same speed however busy the server is. When the loop falls
+ * behind it runs the missed ticks back to back, up to a limit, and drops the rest so one long stall cannot turn
+ * into a burst of catch-up ticks. Every tick is timed: ticks longer than the period count as overruns and the
+ * most recent durations are kept for percentiles.
+ * The loop calls awaitTicks, beginTick and endTick from one thread, the counters may be read from any thread.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class TickScheduler {
+    private final long period; // nanoseconds per tick
+    private final int maxCatchUp;
+    private final AtomicLongArray durations; // the most recent tick durations, oldest overwritten first
+    private long nextDeadline;
+    private boolean started;
+    private long tickStart;
+    private volatile long recorded; // ticks timed so far
+    private volatile long overruns;
+    private volatile long skipped;
+
+    /**
+     * Constructor for TickScheduler.
+     * @param ticksPerSecond How many ticks to run every second.
+     * @param maxCatchUp The most ticks run back to back after falling behind.
+     * @param samples How many of the most recent tick durations to keep for percentiles.
+     */
+    public TickScheduler(int ticksPerSecond, int maxCatchUp, int samples) {
+        this.period = 1_000_000_000L / Math.max(1, ticksPerSecond);
+        this.maxCatchUp = Math.max(1, maxCatchUp);
+        this.durations = new AtomicLongArray(Math.max(1, samples));
+    }
+
+    /**
+     * awaitTicks
+     * Sleeps until the next tick is due and says how many ticks are due by then. Ticks missed beyond the
+     * catch-up limit are dropped and counted as skipped.
+     * @return int, the number of ticks to run now, at least 1.
+     * @throws InterruptedException If the thread is interrupted while sleeping.
+     */
+    public int awaitTicks() throws InterruptedException {
+        long now = System.nanoTime();
+        if (!started) {
+            started = true;
+            nextDeadline = now + period;
+        }
+        while (now - nextDeadline < 0) {
+            long wait = nextDeadline - now;
+            Thread.sleep(wait / 1_000_000L, (int) (wait % 1_000_000L));
+            now = System.nanoTime();
+        }
+        long due = ((now - nextDeadline) / period) + 1;
+        if (due > maxCatchUp) {
+            skipped += due - maxCatchUp;
+            nextDeadline = now + period; // start over from now rather than chase the dropped ticks
+            return maxCatchUp;
+        }
+        nextDeadline += due * period;
+        return (int) due;
+    }
+
+    /**
+     * beginTick
+     * Starts timing a tick.
+     */
+    public void beginTick() {
+        tickStart = System.nanoTime();
+    }
+
+    /**
+     * endTick
+     * Stops timing a tick, recording its duration and whether it overran the period.
+     */
+    public void endTick() {
+        long duration = System.nanoTime() - tickStart;
+        durations.set((int) (recorded % durations.length()), duration);
+        recorded++;
+        if (duration > period) {
+            overruns++;
+        }
+    }
+
+    /**
+     * getTickDurationPercentile
+     * Finds the duration below which a share of the recent ticks finished, by nearest rank.
+     * @param percentile The share of ticks, from 0 to 100, such as 50 for the median or 99 for the slow tail.
+     * @return long, the duration in nanoseconds, or 0 if no tick has been timed yet.
+     */
+    public long getTickDurationPercentile(double percentile) {
+        int count = (int) Math.min(recorded, durations.length());
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = durations.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(Math.max(0, Math.min(100, percentile)) / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /*
+    ====================================================================
+    getters
+    ====================================================================
+     */
+
+    public long getPeriod() {
+        return period;
+    }
+    public long getTicksTimed() {
+        return recorded;
+    }
+    public long getOverruns() {
+        return overruns;
+    }
+    public long getSkippedTicks() {
+        return skipped;
+    }
+}
@@ -0,0 +1,35 @@
+package networking;
+
+import java.nio.ByteBuffer;
+
+/**
+ * [TransportListener.java]
+ * Callbacks made by the NioTransport I/O threads as connections complete their handshake, receive frames
+ * and disconnect. Implementations must not block, since one I/O thread serves many connections.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public interface TransportListener {
+
+    /**
+     * onHandshake
+     * Called once a new connection has sent a valid handshake frame.
+     * @param connection The connection that is now ready to use.
+     */
+    void onHandshake(Connection connection);
+
+    /**
+     * onFrame
+     * Called for every complete frame received after the handshake.
+     * @param connection The connection the frame arrived on.
+     * @param payload The payload of the frame, only valid for the duration of the call.
+     */
+    void onFrame(Connection connection, ByteBuffer payload);
+
+    /**
+     * onDisconnect
+     * Called exactly once when a connection that completed its handshake is closed, for any reason.
+     * @param connection The connection that was closed.
+     */
+    void onDisconnect(Connection connection);
+}
@@ -0,0 +1,64 @@
+package entities;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * [ParallelNarrowphaseTest.java]
+ * Fires a bullet at a thin wall on the tick it lands, with an avatar either just behind the wall or between the bullet
+ * and the wall, and checks that only the avatar the bullet reached before the wall is hit.
+ * @author Dilen De Silva
+ * @version 1.0, October 18, 2026
+ */
+public class ParallelNarrowphaseTest {
+    private static final int WALL_X = 200;
+    private static final int WALL_WIDTH = 10;
+    private static final int BULLET_SIZE = 10;
+    private static final int BULLET_Y = 50;
+
+    @Test
+    public void avatarBehindWallIsNotHit() {
+        // the bullet moves its whole speed on the tick it lands, so its path ends past the wall, over the avatar
+        assertEquals("contacts", 0, contactsOf(WALL_X - BULLET_SIZE - 10, 35, WALL_X + WALL_WIDTH + 2));
+    }
+
+    @Test
+    public void avatarBeforeWallIsHit() {
+        assertEquals("contacts", 1, contactsOf(0, 200, 20));
+    }
+
+    /**
+     * contactsOf
+     * Fires a bullet to the right at the wall, lets it make the move it lands during, and checks it against an avatar
+     * standing still.
+     * @param bulletX The x the bullet is fired from.
+     * @param speed The speed of the bullet, enough to reach the wall this tick.
+     * @param avatarX The x of the avatar.
+     * @return int, the number of contacts the narrowphase kept.
+     */
+    private static int contactsOf(int bulletX, int speed, int avatarX) {
+        Wall wall = new Wall("41-1", new Hitbox(WALL_X, 0, WALL_WIDTH, 200));
+        Bullet bullet = new AttackPools(1).acquireBullet(1, bulletX, BULLET_Y, BULLET_SIZE, BULLET_SIZE, 10);
+        bullet.getSpeed().setIntX(speed);
+        bullet.castAgainst(new StaticBvh(Collections.singletonList(wall)));
+        assertTrue("lands this tick", bullet.hasLanded());
+        bullet.getHitbox().translate(speed, 0);
+
+        Norman avatar = new Norman("0");
+        avatar.getHitbox().setLocation(avatarX, 0);
+        avatar.getHitbox().markPrevious();
+
+        SweepAndPrune broadphase = new SweepAndPrune(2);
+        broadphase.beginUpdate();
+        broadphase.include(List.of(avatar));
+        broadphase.include(List.of(bullet));
+        broadphase.findPairs();
+        assertEquals("pairs", 1, broadphase.getPairCount());
+        return new ParallelNarrowphase(null, 1).findContacts(broadphase);
+    }
+}
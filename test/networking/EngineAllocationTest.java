@@ -0,0 +1,81 @@
+package networking;
+
+import entities.Avatar;
+import entities.Holster.WeaponHolster;
+import entities.Norman;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * [EngineAllocationTest.java]
+ * Runs a match on the first map where one avatar fires bullets and the other rockets at the ceiling while both walk
+ * back and forth and jump, and checks that once every pool, store and list has grown to what the match needs,
+ * a tick allocates nothing at all.
+ * @author Michael Khart
+ * @version 1.0, October 18, 2026
+ */
+public class EngineAllocationTest {
+    private static final int WARM_UP_TICKS = 2000;
+    private static final int MEASURED_TICKS = 2000;
+    // the JVM recompiling on the engine thread can be counted once as a 48 byte string, anything a tick itself
+    // allocated would be counted on every tick it happened, far more than this over the window
+    private static final long JIT_SLACK_BYTES = 64;
+    private static final int FLOOR_Y = 900; // top of the floor on the right of Save1
+    private static final int CEILING_Y = -1000;
+
+    @Test
+    public void steadyStateTicksAllocateNothing() throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Server server = new Server();
+        Server.GameEngine engine = server.new GameEngine();
+        Avatar[] avatars = {new Norman("0"), new Norman("1")};
+        for (int client = 0; client < avatars.length; client++) {
+            engine.addAvatar(client, avatars[client]);
+        }
+        engine.initiateMap();
+        engine.broadcastMap();
+        for (int client = 0; client < avatars.length; client++) {
+            avatars[client].getHitbox().setIntX(1300 + (client * 200));
+            avatars[client].getHitbox().setIntY(FLOOR_Y - avatars[client].getHitbox().height);
+        }
+        engine.submit(new Command(Command.CommandType.SWITCH_WEAPON, 0, WeaponHolster.GUN.ordinal(), 0));
+        engine.submit(new Command(Command.CommandType.SWITCH_WEAPON, 1, WeaponHolster.RPG.ordinal(), 0));
+
+        for (int tick = 0; tick < WARM_UP_TICKS; tick++) {
+            queueInputs(engine, avatars, tick);
+            engine.step();
+        }
+        long allocated = 0;
+        for (int tick = WARM_UP_TICKS; tick < WARM_UP_TICKS + MEASURED_TICKS; tick++) {
+            queueInputs(engine, avatars, tick);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            engine.step();
+            allocated += threads.getCurrentThreadAllocatedBytes() - before;
+        }
+        assertTrue("bytes allocated over " + MEASURED_TICKS + " ticks: " + allocated, allocated <= JIT_SLACK_BYTES);
+    }
+
+    /**
+     * queueInputs
+     * Queues the inputs of both avatars for one tick. The commands are made before the tick is measured, the way the
+     * I/O threads make them.
+     * @param engine The engine of the match.
+     * @param avatars The avatars, indexed by the handle of their client.
+     * @param tick The number of the tick, which decides the inputs.
+     */
+    private static void queueInputs(Server.GameEngine engine, Avatar[] avatars, int tick) {
+        for (int client = 0; client < avatars.length; client++) {
+            int aimX = (int) avatars[client].getHitbox().getCenterX();
+            engine.submit(new Command(Command.CommandType.ATTACK, client, aimX, CEILING_Y));
+            boolean right = ((tick / 8) + client) % 2 == 0;
+            engine.submit(new Command(right ? Command.CommandType.MOVE_RIGHT : Command.CommandType.MOVE_LEFT, client, 0, 0));
+            if (tick % 30 == client) {
+                engine.submit(new Command(Command.CommandType.JUMP, client, 0, 0));
+            }
+        }
+    }
+}